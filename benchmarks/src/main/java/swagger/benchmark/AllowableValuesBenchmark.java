@@ -0,0 +1,38 @@
+package swagger.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import springfox.documentation.service.AllowableValues;
+import swagger.SwaggerEnumConverterPlugin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SwaggerEnumConverterPlugin.allowableValueFromString，覆盖range、列表、单值及空值
+ *
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllowableValuesBenchmark {
+
+    @Param({"range[1, 100]", "range(-infinity, 0)", "1, 2, 3, 4, 5", "ACTIVE", " "})
+    public String allowableValues;
+
+    @Benchmark
+    public AllowableValues allowableValueFromString() {
+        return SwaggerEnumConverterPlugin.allowableValueFromString(allowableValues);
+    }
+}
@@ -0,0 +1,10 @@
+package swagger.benchmark;
+
+/**
+ * getBodyEnumResolvedType识别的泛型接口形式：第二个类型参数为code类型
+ *
+ * @since 2026/10/17
+ */
+public interface CodeEnum<E extends Enum<E>, C> {
+    C getCode();
+}
@@ -0,0 +1,200 @@
+package swagger.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import swagger.annotation.SwaggerEnum;
+import swagger.jackson.SwaggerEnumModule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 枚举code读写：SwaggerEnumModule的预计算查找表对比@JsonValue/@JsonCreator遍历values()，
+ * code位于枚举的首、中、尾位置
+ *
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonEnumBenchmark {
+
+    @Param({"0", "16", "31"})
+    public int code;
+
+    private byte[] json;
+    private byte[] stringJson;
+    private ObjectReader creatorReader;
+    private ObjectReader moduleReader;
+    private ObjectWriter creatorWriter;
+    private ObjectWriter moduleWriter;
+    private JsonValueStatus creatorValue;
+    private SwaggerStatus moduleValue;
+
+    @Setup
+    public void setup() {
+        ObjectMapper plain = new ObjectMapper();
+        ObjectMapper module = new ObjectMapper().registerModule(new SwaggerEnumModule());
+        json = String.valueOf(code).getBytes(StandardCharsets.UTF_8);
+        stringJson = ("\"" + code + "\"").getBytes(StandardCharsets.UTF_8);
+        creatorReader = plain.readerFor(JsonValueStatus.class);
+        moduleReader = module.readerFor(SwaggerStatus.class);
+        creatorWriter = plain.writerFor(JsonValueStatus.class);
+        moduleWriter = module.writerFor(SwaggerStatus.class);
+        creatorValue = JsonValueStatus.values()[code];
+        moduleValue = SwaggerStatus.values()[code];
+    }
+
+    @Benchmark
+    public Object readJsonCreator() throws IOException {
+        return creatorReader.readValue(json);
+    }
+
+    @Benchmark
+    public Object readSwaggerEnumModule() throws IOException {
+        return moduleReader.readValue(json);
+    }
+
+    @Benchmark
+    public Object readStringJsonCreator() throws IOException {
+        return creatorReader.readValue(stringJson);
+    }
+
+    @Benchmark
+    public Object readStringSwaggerEnumModule() throws IOException {
+        return moduleReader.readValue(stringJson);
+    }
+
+    @Benchmark
+    public byte[] writeJsonValue() throws IOException {
+        return creatorWriter.writeValueAsBytes(creatorValue);
+    }
+
+    @Benchmark
+    public byte[] writeSwaggerEnumModule() throws IOException {
+        return moduleWriter.writeValueAsBytes(moduleValue);
+    }
+
+    /**
+     * enum-jackson-boot-starter常见写法：@JsonValue输出code，@JsonCreator遍历values()查找
+     */
+    public enum JsonValueStatus {
+        C0(0, "message0"),
+        C1(1, "message1"),
+        C2(2, "message2"),
+        C3(3, "message3"),
+        C4(4, "message4"),
+        C5(5, "message5"),
+        C6(6, "message6"),
+        C7(7, "message7"),
+        C8(8, "message8"),
+        C9(9, "message9"),
+        C10(10, "message10"),
+        C11(11, "message11"),
+        C12(12, "message12"),
+        C13(13, "message13"),
+        C14(14, "message14"),
+        C15(15, "message15"),
+        C16(16, "message16"),
+        C17(17, "message17"),
+        C18(18, "message18"),
+        C19(19, "message19"),
+        C20(20, "message20"),
+        C21(21, "message21"),
+        C22(22, "message22"),
+        C23(23, "message23"),
+        C24(24, "message24"),
+        C25(25, "message25"),
+        C26(26, "message26"),
+        C27(27, "message27"),
+        C28(28, "message28"),
+        C29(29, "message29"),
+        C30(30, "message30"),
+        C31(31, "message31");
+
+        private final int code;
+        private final String message;
+
+        JsonValueStatus(int code, String message) {
+            this.code = code;
+            this.message = message;
+        }
+
+        @JsonValue
+        public int getCode() {
+            return code;
+        }
+
+        @JsonCreator
+        public static JsonValueStatus of(Object code) {
+            for (JsonValueStatus value : values()) {
+                if (String.valueOf(value.code).equals(String.valueOf(code))) {
+                    return value;
+                }
+            }
+            return null;
+        }
+    }
+
+    @SwaggerEnum
+    public enum SwaggerStatus {
+        S0(0, "message0"),
+        S1(1, "message1"),
+        S2(2, "message2"),
+        S3(3, "message3"),
+        S4(4, "message4"),
+        S5(5, "message5"),
+        S6(6, "message6"),
+        S7(7, "message7"),
+        S8(8, "message8"),
+        S9(9, "message9"),
+        S10(10, "message10"),
+        S11(11, "message11"),
+        S12(12, "message12"),
+        S13(13, "message13"),
+        S14(14, "message14"),
+        S15(15, "message15"),
+        S16(16, "message16"),
+        S17(17, "message17"),
+        S18(18, "message18"),
+        S19(19, "message19"),
+        S20(20, "message20"),
+        S21(21, "message21"),
+        S22(22, "message22"),
+        S23(23, "message23"),
+        S24(24, "message24"),
+        S25(25, "message25"),
+        S26(26, "message26"),
+        S27(27, "message27"),
+        S28(28, "message28"),
+        S29(29, "message29"),
+        S30(30, "message30"),
+        S31(31, "message31");
+
+        private final int code;
+        private final String message;
+
+        SwaggerStatus(int code, String message) {
+            this.code = code;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package swagger.benchmark;
+
+import com.fasterxml.classmate.TypeResolver;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.swagger.annotations.ApiModelProperty;
+import io.swagger.annotations.ApiParam;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+import springfox.documentation.builders.ModelPropertyBuilder;
+import springfox.documentation.builders.ModelSpecificationBuilder;
+import springfox.documentation.builders.ParameterBuilder;
+import springfox.documentation.builders.PropertySpecificationBuilder;
+import springfox.documentation.builders.RequestParameterBuilder;
+import springfox.documentation.schema.JacksonEnumTypeDeterminer;
+import springfox.documentation.schema.ModelSpecification;
+import springfox.documentation.schema.ScalarType;
+import springfox.documentation.schema.property.ModelSpecificationFactory;
+import springfox.documentation.spi.schema.contexts.ModelContext;
+import springfox.documentation.spi.schema.contexts.ModelPropertyContext;
+import springfox.documentation.spi.service.contexts.ParameterExpansionContext;
+import springfox.documentation.spring.web.DescriptionResolver;
+import swagger.SwaggerEnumConverterPlugin;
+import swagger.SwaggerEnumParameterBuilderPlugin;
+import swagger.SwaggerEnumPluginOptions;
+
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 插件apply完整调用。springfox上下文由mockito桩实现，桩调用的固定开销计入结果，
+ * 对比同一台机器上的前后两次结果即可，不宜与其它基准直接比较
+ *
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PluginApplyBenchmark {
+    private static final String DESCRIPTION = "状态";
+
+    @Param({"5", "500", "2500"})
+    public int size;
+
+    @Param({"ORDINAL", "CODE", "CODE_MESSAGE"})
+    public SyntheticSources.FieldMode mode;
+
+    @Param({"false", "true"})
+    public boolean componentSchemas;
+
+    private final TypeResolver resolver = new TypeResolver();
+    private SwaggerEnumConverterPlugin converterPlugin;
+    private SwaggerEnumParameterBuilderPlugin parameterPlugin;
+    private ModelPropertyContext propertyContext;
+    private PropertySpecificationBuilder specificationBuilder;
+    private ModelPropertyBuilder propertyBuilder;
+    private ParameterExpansionContext parameterContext;
+
+    @Setup
+    public void setUp() throws Exception {
+        String enumName = "ApplyEnum" + size + "_" + mode;
+        String dtoName = "ApplyDto" + size + "_" + mode;
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("bench." + enumName, SyntheticSources.enumSource("bench", enumName, size, mode));
+        sources.put("bench." + dtoName, SyntheticSources.dtoSource("bench", dtoName, "bench." + enumName));
+        ClassLoader loader = SyntheticSources.compile(Files.createTempDirectory("enum-swagger3-bench"), sources);
+        Class<?> enumType = loader.loadClass("bench." + enumName);
+        Class<?> dtoType = loader.loadClass("bench." + dtoName);
+
+        JacksonEnumTypeDeterminer enumTypeDeterminer = new JacksonEnumTypeDeterminer();
+        ModelSpecification scalar = new ModelSpecificationBuilder().scalarModel(ScalarType.INTEGER).build();
+        ModelSpecificationFactory modelSpecifications = mock(ModelSpecificationFactory.class);
+        when(modelSpecifications.getEnumTypeDeterminer()).thenReturn(enumTypeDeterminer);
+        when(modelSpecifications.create(any(), any())).thenReturn(scalar);
+        SwaggerEnumPluginOptions options = new SwaggerEnumPluginOptions();
+        options.setComponentSchemas(componentSchemas);
+        converterPlugin = new SwaggerEnumConverterPlugin(modelSpecifications, options);
+        parameterPlugin = new SwaggerEnumParameterBuilderPlugin(
+                resolver, new DescriptionResolver(new StandardEnvironment()), enumTypeDeterminer, options);
+
+        ObjectMapper mapper = new ObjectMapper();
+        BeanDescription beanDescription = mapper.getSerializationConfig().introspect(mapper.constructType(dtoType));
+        BeanPropertyDefinition status = beanDescription.findProperties().stream()
+                .filter(p -> "status".equals(p.getName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        specificationBuilder = new PropertySpecificationBuilder("status");
+        propertyBuilder = new ModelPropertyBuilder();
+        propertyContext = mock(ModelPropertyContext.class);
+        when(propertyContext.getAnnotatedElement()).thenReturn(Optional.empty());
+        when(propertyContext.getBeanPropertyDefinition()).thenReturn(Optional.of(status));
+        when(propertyContext.getSpecificationBuilder()).thenReturn(specificationBuilder);
+        when(propertyContext.getBuilder()).thenReturn(propertyBuilder);
+        when(propertyContext.getResolver()).thenReturn(resolver);
+        when(propertyContext.getOwner()).thenReturn(mock(ModelContext.class));
+
+        ApiModelProperty annotation = dtoType.getDeclaredField("status").getAnnotation(ApiModelProperty.class);
+        parameterContext = mock(ParameterExpansionContext.class);
+        when(parameterContext.findAnnotation(ApiModelProperty.class)).thenReturn(Optional.of(annotation));
+        when(parameterContext.findAnnotation(ApiParam.class)).thenReturn(Optional.empty());
+        when(parameterContext.getFieldType()).thenReturn(resolver.resolve(enumType));
+        when(parameterContext.getParameterBuilder()).thenReturn(new ParameterBuilder());
+        when(parameterContext.getRequestParameterBuilder()).thenReturn(new RequestParameterBuilder());
+    }
+
+    @Benchmark
+    public ModelPropertyContext converterApply() {
+        // apply会在已有description后追加枚举描述，每次调用前复位
+        specificationBuilder.description(DESCRIPTION);
+        propertyBuilder.description(DESCRIPTION);
+        converterPlugin.apply(propertyContext);
+        return propertyContext;
+    }
+
+    @Benchmark
+    public ParameterExpansionContext parameterApply() {
+        parameterPlugin.apply(parameterContext);
+        return parameterContext;
+    }
+}
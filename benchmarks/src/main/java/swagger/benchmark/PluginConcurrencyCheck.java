@@ -0,0 +1,233 @@
+package swagger.benchmark;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.swagger.annotations.ApiModelProperty;
+import io.swagger.annotations.ApiParam;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.ReflectionUtils;
+import springfox.documentation.builders.ModelPropertyBuilder;
+import springfox.documentation.builders.ModelSpecificationBuilder;
+import springfox.documentation.builders.ParameterBuilder;
+import springfox.documentation.builders.PropertySpecificationBuilder;
+import springfox.documentation.builders.RequestParameterBuilder;
+import springfox.documentation.schema.JacksonEnumTypeDeterminer;
+import springfox.documentation.schema.ModelSpecification;
+import springfox.documentation.schema.ScalarType;
+import springfox.documentation.schema.property.ModelSpecificationFactory;
+import springfox.documentation.service.AllowableListValues;
+import springfox.documentation.service.AllowableRangeValues;
+import springfox.documentation.spi.schema.contexts.ModelContext;
+import springfox.documentation.spi.schema.contexts.ModelPropertyContext;
+import springfox.documentation.spi.service.contexts.ParameterExpansionContext;
+import springfox.documentation.spring.web.DescriptionResolver;
+import swagger.SwaggerEnumConverterPlugin;
+import swagger.SwaggerEnumParameterBuilderPlugin;
+import swagger.SwaggerEnumPluginOptions;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 插件并发压测：同样的枚举/DTO分别编译到seq、par两个包，先串行对seq执行两个插件的apply，
+ * 再由多个线程同时对par执行（缓存均为冷启动，覆盖并发填充缓存的路径），逐个比较两个builder上的结果。
+ * 结果不一致时以非0状态退出
+ * <p>
+ * 参数：[枚举数量=200] [线程数=CPU核数*2] [每个枚举的并发调用次数=20]
+ *
+ * @since 2026/10/17
+ */
+public class PluginConcurrencyCheck {
+    private static final String DESCRIPTION = "状态";
+    private static final SyntheticSources.FieldMode[] MODES = SyntheticSources.FieldMode.values();
+
+    private final TypeResolver resolver = new TypeResolver();
+    private final JacksonEnumTypeDeterminer enumTypeDeterminer = new JacksonEnumTypeDeterminer();
+    private final ModelSpecificationFactory modelSpecifications = mock(ModelSpecificationFactory.class);
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int enums = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 2;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int mismatches = new PluginConcurrencyCheck().run(enums, threads, rounds);
+        if (mismatches > 0) {
+            System.err.printf("%d mismatches between sequential and concurrent runs%n", mismatches);
+            System.exit(1);
+        }
+        System.out.printf("%d enums x %d calls on %d threads match the sequential run%n", enums, rounds, threads);
+    }
+
+    private int run(int enums, int threads, int rounds) throws Exception {
+        ModelSpecification scalar = new ModelSpecificationBuilder().scalarModel(ScalarType.INTEGER).build();
+        when(modelSpecifications.getEnumTypeDeterminer()).thenReturn(enumTypeDeterminer);
+        when(modelSpecifications.create(any(), any())).thenReturn(scalar);
+
+        List<Class<?>[]> sequentialTypes = compile("seq", enums);
+        List<Class<?>[]> concurrentTypes = compile("par", enums);
+
+        Plugins sequentialPlugins = new Plugins();
+        List<List<String>> expected = new ArrayList<>();
+        for (Class<?>[] types : sequentialTypes) {
+            expected.add(apply(sequentialPlugins, types[0], types[1]));
+        }
+
+        // mock在主线程中创建好，工作线程只调用插件
+        Plugins concurrentPlugins = new Plugins();
+        List<Invocation> invocations = new ArrayList<>();
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < concurrentTypes.size(); i++) {
+                invocations.add(new Invocation(i, concurrentTypes.get(i)[0], concurrentTypes.get(i)[1]));
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (Invocation invocation : invocations) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                return invocation.apply(concurrentPlugins);
+            }));
+        }
+        long start = System.nanoTime();
+        ready.countDown();
+        int mismatches = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            List<String> actual = futures.get(i).get();
+            List<String> wanted = expected.get(invocations.get(i).index);
+            if (!wanted.equals(actual) && mismatches++ < 10) {
+                System.err.printf("mismatch for %s%n  expected %s%n  actual   %s%n",
+                        invocations.get(i).enumType.getSimpleName(), wanted, actual);
+            }
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        System.out.printf("%d concurrent applies in %d ms%n",
+                futures.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return mismatches;
+    }
+
+    private List<Class<?>[]> compile(String pkg, int enums) throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (int i = 0; i < enums; i++) {
+            String enumName = "StressEnum" + i;
+            sources.put(pkg + "." + enumName,
+                    SyntheticSources.enumSource(pkg, enumName, 5 + i % 50, MODES[i % MODES.length]));
+            sources.put(pkg + ".StressDto" + i,
+                    SyntheticSources.dtoSource(pkg, "StressDto" + i, pkg + "." + enumName));
+        }
+        ClassLoader loader = SyntheticSources.compile(Files.createTempDirectory("enum-swagger3-stress"), sources);
+        List<Class<?>[]> types = new ArrayList<>();
+        for (int i = 0; i < enums; i++) {
+            types.add(new Class<?>[]{loader.loadClass(pkg + ".StressEnum" + i), loader.loadClass(pkg + ".StressDto" + i)});
+        }
+        return types;
+    }
+
+    private List<String> apply(Plugins plugins, Class<?> enumType, Class<?> dtoType) {
+        return new Invocation(-1, enumType, dtoType).apply(plugins);
+    }
+
+    private final class Plugins {
+        private final SwaggerEnumConverterPlugin converter =
+                new SwaggerEnumConverterPlugin(modelSpecifications, new SwaggerEnumPluginOptions());
+        private final SwaggerEnumParameterBuilderPlugin parameter = new SwaggerEnumParameterBuilderPlugin(
+                resolver, new DescriptionResolver(new StandardEnvironment()), enumTypeDeterminer,
+                new SwaggerEnumPluginOptions());
+    }
+
+    private final class Invocation {
+        private final int index;
+        private final Class<?> enumType;
+        private final PropertySpecificationBuilder specificationBuilder = new PropertySpecificationBuilder("status");
+        private final ModelPropertyBuilder propertyBuilder = new ModelPropertyBuilder();
+        private final ParameterBuilder parameterBuilder = new ParameterBuilder();
+        private final RequestParameterBuilder requestParameterBuilder = new RequestParameterBuilder();
+        private final ModelPropertyContext propertyContext = mock(ModelPropertyContext.class);
+        private final ParameterExpansionContext parameterContext = mock(ParameterExpansionContext.class);
+
+        private Invocation(int index, Class<?> enumType, Class<?> dtoType) {
+            this.index = index;
+            this.enumType = enumType;
+            BeanDescription beanDescription = mapper.getSerializationConfig().introspect(mapper.constructType(dtoType));
+            BeanPropertyDefinition status = beanDescription.findProperties().stream()
+                    .filter(p -> "status".equals(p.getName()))
+                    .findFirst()
+                    .orElseThrow(IllegalStateException::new);
+            ModelContext owner = mock(ModelContext.class);
+            when(owner.getType()).thenReturn(dtoType);
+            specificationBuilder.description(DESCRIPTION);
+            propertyBuilder.description(DESCRIPTION);
+            when(propertyContext.getAnnotatedElement()).thenReturn(Optional.empty());
+            when(propertyContext.getBeanPropertyDefinition()).thenReturn(Optional.of(status));
+            when(propertyContext.getSpecificationBuilder()).thenReturn(specificationBuilder);
+            when(propertyContext.getBuilder()).thenReturn(propertyBuilder);
+            when(propertyContext.getResolver()).thenReturn(resolver);
+            when(propertyContext.getOwner()).thenReturn(owner);
+
+            ApiModelProperty annotation = status.getField().getAnnotation(ApiModelProperty.class);
+            when(parameterContext.findAnnotation(ApiModelProperty.class)).thenReturn(Optional.of(annotation));
+            when(parameterContext.findAnnotation(ApiParam.class)).thenReturn(Optional.empty());
+            when(parameterContext.getFieldType()).thenReturn(resolver.resolve(enumType));
+            when(parameterContext.getParameterBuilder()).thenReturn(parameterBuilder);
+            when(parameterContext.getRequestParameterBuilder()).thenReturn(requestParameterBuilder);
+        }
+
+        private List<String> apply(Plugins plugins) {
+            plugins.converter.apply(propertyContext);
+            plugins.parameter.apply(parameterContext);
+            return Arrays.asList(
+                    render(read(specificationBuilder, "description")),
+                    render(read(propertyBuilder, "description")),
+                    render(read(propertyBuilder, "allowableValues")),
+                    render(read(propertyBuilder, "type")),
+                    render(read(parameterBuilder, "description")),
+                    render(read(parameterBuilder, "allowableValues")),
+                    render(read(requestParameterBuilder, "description")));
+        }
+    }
+
+    private static Object read(Object builder, String fieldName) {
+        Field field = ReflectionUtils.findField(builder.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalStateException(builder.getClass().getName() + " has no field " + fieldName);
+        }
+        ReflectionUtils.makeAccessible(field);
+        return ReflectionUtils.getField(field, builder);
+    }
+
+    /**
+     * 枚举类在两个包中同名，类型只比较简单名
+     */
+    private static String render(Object value) {
+        if (value instanceof AllowableListValues) {
+            return "list" + ((AllowableListValues) value).getValues();
+        }
+        if (value instanceof AllowableRangeValues) {
+            AllowableRangeValues range = (AllowableRangeValues) value;
+            return "range" + range.getMin() + "," + range.getMax();
+        }
+        if (value instanceof ResolvedType) {
+            return ((ResolvedType) value).getErasedType().getSimpleName();
+        }
+        return String.valueOf(value);
+    }
+}
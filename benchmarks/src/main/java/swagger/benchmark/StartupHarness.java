@@ -0,0 +1,184 @@
+package swagger.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import springfox.documentation.builders.RequestHandlerSelectors;
+import springfox.documentation.spi.DocumentationType;
+import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
+import swagger.SwaggerEnumInterner;
+import swagger.SwaggerEnumMetadataRegistry;
+import swagger.annotation.EnableSwaggerEnumPlugin;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 端到端启动测试：生成合成应用后，分别在插件关闭/开启时各启动若干次独立JVM，
+ * 统计上下文启动耗时、Docket文档生成耗时以及DocumentationCache占用的堆内存。
+ * 只依赖本地classpath与回环端口，可离线运行。
+ * <p>
+ * 参数：[枚举数量=10000] [DTO数量=5000] [每种模式启动次数=3]，
+ * 子JVM参数通过系统属性harness.jvmArgs传入（默认-Xmx4g）
+ *
+ * @since 2026/10/17
+ */
+public class StartupHarness {
+    private static final String RESULT_PREFIX = "RESULT ";
+    private static final String RUN_ARGUMENT = "--run";
+    private static final String[] METRICS = {"contextMillis", "docketMillis", "documentationCacheBytes"};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && RUN_ARGUMENT.equals(args[0])) {
+            run(Boolean.parseBoolean(args[1]));
+            return;
+        }
+        int enums = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int dtos = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+        long start = System.nanoTime();
+        Path classes = SyntheticApplication.generate(Paths.get("target"), enums, dtos);
+        System.out.printf("synthetic application: %d enums, %d dtos in %s (%d ms)%n",
+                enums, dtos, classes, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        Map<Boolean, List<Map<String, Long>>> results = new LinkedHashMap<>();
+        for (int i = 0; i < iterations; i++) {
+            for (boolean enabled : new boolean[]{false, true}) {
+                results.computeIfAbsent(enabled, k -> new ArrayList<>()).add(fork(classes, enabled));
+            }
+        }
+        System.out.printf("%-10s %15s %15s %25s%n", "plugin", METRICS[0], METRICS[1], METRICS[2]);
+        results.forEach((enabled, runs) -> System.out.printf("%-10s %15d %15d %25d%n",
+                enabled ? "enabled" : "disabled",
+                median(runs, METRICS[0]), median(runs, METRICS[1]), median(runs, METRICS[2])));
+    }
+
+    private static Map<String, Long> fork(Path classes, boolean enabled) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(System.getProperty("harness.jvmArgs", "-Xmx4g").trim().split("\\s+")));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path") + File.pathSeparator + classes.toAbsolutePath());
+        command.add(StartupHarness.class.getName());
+        command.add(RUN_ARGUMENT);
+        command.add(String.valueOf(enabled));
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        Map<String, Long> metrics = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    String[] pair = line.substring(RESULT_PREFIX.length()).split("=", 2);
+                    metrics.put(pair[0], Long.parseLong(pair[1]));
+                }
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Harness run failed, plugin enabled: " + enabled);
+        }
+        System.out.println((enabled ? "enabled " : "disabled ") + metrics);
+        return metrics;
+    }
+
+    /**
+     * 子JVM：关闭springfox自动启动，单独计时文档生成
+     */
+    private static void run(boolean enabled) throws InterruptedException {
+        SpringApplication application = new SpringApplication(
+                enabled ? EnumPluginHarnessApplication.class : HarnessApplication.class);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.mvc.pathmatch.matching-strategy", "ant_path_matcher");
+        properties.put("springfox.documentation.auto-startup", "false");
+        application.setDefaultProperties(properties);
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = application.run()) {
+            long contextNanos = System.nanoTime() - start;
+            DocumentationPluginsBootstrapper bootstrapper = context.getBean(DocumentationPluginsBootstrapper.class);
+            start = System.nanoTime();
+            bootstrapper.start();
+            long docketNanos = System.nanoTime() - start;
+
+            DocumentationCache documentationCache = context.getBean(DocumentationCache.class);
+            long withDocumentation = usedHeapAfterGc();
+            documentationCache.clear();
+            long withoutDocumentation = usedHeapAfterGc();
+
+            result("contextMillis", TimeUnit.NANOSECONDS.toMillis(contextNanos));
+            result("docketMillis", TimeUnit.NANOSECONDS.toMillis(docketNanos));
+            result("documentationCacheBytes", Math.max(0, withDocumentation - withoutDocumentation));
+            if (enabled) {
+                result("metadataHits", SwaggerEnumMetadataRegistry.getInstance().getHitCount());
+                result("metadataMisses", SwaggerEnumMetadataRegistry.getInstance().getMissCount());
+                result("internedBytesSaved", SwaggerEnumInterner.getInstance().getSavedBytes());
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void result(String name, long value) {
+        System.out.println(RESULT_PREFIX + name + "=" + value);
+    }
+
+    private static long median(List<Map<String, Long>> runs, String metric) {
+        List<Long> values = new ArrayList<>();
+        runs.forEach(run -> values.add(run.getOrDefault(metric, 0L)));
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+
+    @Configuration
+    static class HarnessDocketConfiguration {
+        @Bean
+        public Docket syntheticDocket() {
+            return new Docket(DocumentationType.OAS_30)
+                    .select()
+                    .apis(RequestHandlerSelectors.basePackage(SyntheticApplication.BASE_PACKAGE))
+                    .build();
+        }
+    }
+
+    @SpringBootApplication(scanBasePackages = SyntheticApplication.BASE_PACKAGE)
+    @Import(HarnessDocketConfiguration.class)
+    static class HarnessApplication {
+    }
+
+    @SpringBootApplication(scanBasePackages = SyntheticApplication.BASE_PACKAGE)
+    @Import(HarnessDocketConfiguration.class)
+    @EnableSwaggerEnumPlugin
+    static class EnumPluginHarnessApplication {
+    }
+}
@@ -0,0 +1,83 @@
+package swagger.benchmark;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import swagger.SwaggerEnumMetadataRegistry;
+import swagger.SwaggerEnumParser;
+
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SwaggerEnumParser解析路径：缓存命中、首次计算（新建registry）以及直接解析常量
+ *
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwaggerEnumParserBenchmark {
+
+    @Param({"5", "50", "500", "2500"})
+    public int size;
+
+    @Param({"ORDINAL", "CODE", "CODE_MESSAGE"})
+    public SyntheticSources.FieldMode mode;
+
+    private final SwaggerEnumParser parser = new SwaggerEnumParser();
+    private final TypeResolver resolver = new TypeResolver();
+    private Class<?> enumType;
+    private Field codeField;
+    private Field messageField;
+
+    @Setup
+    public void setUp() throws Exception {
+        String name = "BenchEnum" + size + "_" + mode;
+        String className = "bench." + name;
+        ClassLoader loader = SyntheticSources.compile(
+                Files.createTempDirectory("enum-swagger3-bench"),
+                Collections.singletonMap(className, SyntheticSources.enumSource("bench", name, size, mode)));
+        enumType = loader.loadClass(className);
+        codeField = mode == SyntheticSources.FieldMode.ORDINAL ? null : enumType.getDeclaredField("code");
+        messageField = mode == SyntheticSources.FieldMode.CODE_MESSAGE ? enumType.getDeclaredField("message") : null;
+    }
+
+    @Benchmark
+    public String parseSwaggerEnumAnnotation() {
+        return parser.parseSwaggerEnumAnnotation(enumType);
+    }
+
+    /**
+     * 新建registry，相当于每个枚举在启动时第一次被扫描到
+     */
+    @Benchmark
+    public String parseSwaggerEnumAnnotationCold() {
+        return new SwaggerEnumMetadataRegistry(resolver).get(enumType).getDescription();
+    }
+
+    @Benchmark
+    public String resolverEnumConstants() {
+        return parser.resolverEnumConstants(enumType, codeField, messageField);
+    }
+
+    @Benchmark
+    public ResolvedType getBodyEnumResolvedType() {
+        return parser.getBodyEnumResolvedType(resolver, enumType);
+    }
+}
@@ -0,0 +1,137 @@
+package swagger.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 生成合成应用：@SwaggerEnum枚举、引用枚举的DTO以及使用DTO的Controller，编译到指定目录，
+ * 同一规模只编译一次
+ *
+ * @since 2026/10/17
+ */
+public final class SyntheticApplication {
+    public static final String BASE_PACKAGE = "synthetic";
+    private static final int CONSTANTS_PER_ENUM = 8;
+    private static final int DTOS_PER_CONTROLLER = 10;
+    private static final String COMPLETE_MARKER = ".complete";
+
+    private SyntheticApplication() {
+    }
+
+    /**
+     * @param outputDir class输出根目录
+     * @param enums     枚举数量
+     * @param dtos      DTO数量
+     * @return 编译结果目录
+     */
+    public static Path generate(Path outputDir, int enums, int dtos) throws IOException {
+        Path classes = outputDir.resolve("synthetic-app-" + enums + "-" + dtos);
+        if (Files.exists(classes.resolve(COMPLETE_MARKER))) {
+            return classes;
+        }
+        Files.createDirectories(classes);
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (int i = 0; i < enums; i++) {
+            sources.put(enumName(i), enumSource(i));
+        }
+        for (int i = 0; i < dtos; i++) {
+            sources.put(dtoName(i), dtoSource(i, enums));
+        }
+        for (int i = 0; i * DTOS_PER_CONTROLLER < dtos; i++) {
+            sources.put(BASE_PACKAGE + ".web.Controller" + i, controllerSource(i, dtos));
+        }
+        SyntheticSources.compile(classes, sources);
+        Files.write(classes.resolve(COMPLETE_MARKER), new byte[0]);
+        return classes;
+    }
+
+    private static String enumName(int index) {
+        return BASE_PACKAGE + ".enums.Enum" + index;
+    }
+
+    private static String dtoName(int index) {
+        return BASE_PACKAGE + ".dto.Dto" + index;
+    }
+
+    /**
+     * 偶数下标的枚举实现CodeEnum泛型接口，覆盖getBodyEnumResolvedType解析code类型的分支
+     */
+    private static String enumSource(int index) {
+        String name = "Enum" + index;
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(BASE_PACKAGE).append(".enums;\n\n")
+                .append("@swagger.annotation.SwaggerEnum\n")
+                .append("public enum ").append(name);
+        if (index % 2 == 0) {
+            source.append(" implements ").append(CodeEnum.class.getName()).append("<").append(name).append(", Integer>");
+        }
+        source.append(" {\n");
+        for (int i = 0; i < CONSTANTS_PER_ENUM; i++) {
+            source.append("    C").append(i).append("(").append(i).append(", \"").append(name).append("消息").append(i).append("\")")
+                    .append(i == CONSTANTS_PER_ENUM - 1 ? ";\n" : ",\n");
+        }
+        source.append("    private final Integer code;\n")
+                .append("    private final String message;\n")
+                .append("    ").append(name).append("(Integer code, String message) {\n")
+                .append("        this.code = code;\n")
+                .append("        this.message = message;\n")
+                .append("    }\n")
+                .append("    public Integer getCode() {\n        return code;\n    }\n")
+                .append("    public String getMessage() {\n        return message;\n    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * 每个DTO引用两个枚举，大量枚举被多个DTO共享
+     */
+    private static String dtoSource(int index, int enums) {
+        String first = enumName((index * 2) % enums);
+        String second = enumName((index * 2 + 1) % enums);
+        String name = "Dto" + index;
+        return "package " + BASE_PACKAGE + ".dto;\n\n"
+                + "@io.swagger.annotations.ApiModel\n"
+                + "public class " + name + " {\n"
+                + "    @io.swagger.annotations.ApiModelProperty(value = \"状态\")\n"
+                + "    private " + first + " status;\n"
+                + "    @io.swagger.annotations.ApiModelProperty(value = \"类型\", required = true)\n"
+                + "    private " + second + " type;\n"
+                + "    @io.swagger.annotations.ApiModelProperty(value = \"名称\")\n"
+                + "    private String name;\n"
+                + "    public " + first + " getStatus() {\n        return status;\n    }\n"
+                + "    public void setStatus(" + first + " status) {\n        this.status = status;\n    }\n"
+                + "    public " + second + " getType() {\n        return type;\n    }\n"
+                + "    public void setType(" + second + " type) {\n        this.type = type;\n    }\n"
+                + "    public String getName() {\n        return name;\n    }\n"
+                + "    public void setName(String name) {\n        this.name = name;\n    }\n"
+                + "}\n";
+    }
+
+    /**
+     * POST以DTO为请求/响应体（ModelPropertyBuilderPlugin），GET以DTO为查询对象展开（ExpandedParameterBuilderPlugin）
+     */
+    private static String controllerSource(int index, int dtos) {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(BASE_PACKAGE).append(".web;\n\n")
+                .append("@org.springframework.web.bind.annotation.RestController\n")
+                .append("@org.springframework.web.bind.annotation.RequestMapping(\"/c").append(index).append("\")\n")
+                .append("public class Controller").append(index).append(" {\n");
+        for (int i = index * DTOS_PER_CONTROLLER; i < Math.min(dtos, (index + 1) * DTOS_PER_CONTROLLER); i++) {
+            String dto = dtoName(i);
+            source.append("    @org.springframework.web.bind.annotation.PostMapping(\"/dto").append(i).append("\")\n")
+                    .append("    public ").append(dto).append(" post").append(i)
+                    .append("(@org.springframework.web.bind.annotation.RequestBody ").append(dto).append(" body) {\n")
+                    .append("        return body;\n")
+                    .append("    }\n")
+                    .append("    @org.springframework.web.bind.annotation.GetMapping(\"/dto").append(i).append("\")\n")
+                    .append("    public ").append(dto).append(" get").append(i)
+                    .append("(").append(dto).append(" query) {\n")
+                    .append("        return query;\n")
+                    .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,160 @@
+package swagger.benchmark;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 运行时生成并编译基准测试用的枚举/DTO源码（需要JDK），
+ * 避免在仓库中提交数千常量的枚举
+ *
+ * @since 2026/10/17
+ */
+public final class SyntheticSources {
+
+    /**
+     * 枚举code/message字段组合，对应SwaggerEnumParser的三种解析分支
+     */
+    public enum FieldMode {
+        /**
+         * 无@SwaggerEnum，按下标:常量名展示
+         */
+        ORDINAL,
+        /**
+         * 仅code字段，按code:常量名展示
+         */
+        CODE,
+        /**
+         * code与message字段，按code:message展示
+         */
+        CODE_MESSAGE
+    }
+
+    /**
+     * 单个枚举的常量数上限：常量在<clinit>中初始化，带(code, message)参数时3000个即超出64KB方法长度限制
+     */
+    public static final int MAX_ENUM_SIZE = 2500;
+
+    private SyntheticSources() {
+    }
+
+    public static String enumSource(String pkg, String name, int size, FieldMode mode) {
+        if (size > MAX_ENUM_SIZE) {
+            throw new IllegalArgumentException("enum size " + size + " exceeds " + MAX_ENUM_SIZE);
+        }
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(pkg).append(";\n\n");
+        if (mode != FieldMode.ORDINAL) {
+            source.append("@swagger.annotation.SwaggerEnum\n");
+            source.append("public enum ").append(name)
+                    .append(" implements ").append(CodeEnum.class.getName())
+                    .append("<").append(name).append(", Integer> {\n");
+        } else {
+            source.append("public enum ").append(name).append(" {\n");
+        }
+        for (int i = 0; i < size; i++) {
+            source.append("    C").append(i);
+            if (mode == FieldMode.CODE) {
+                source.append("(").append(i).append(")");
+            } else if (mode == FieldMode.CODE_MESSAGE) {
+                source.append("(").append(i).append(", \"消息").append(i).append("\")");
+            }
+            source.append(i == size - 1 ? ";\n" : ",\n");
+        }
+        if (size == 0) {
+            source.append("    ;\n");
+        }
+        if (mode != FieldMode.ORDINAL) {
+            source.append("    private final Integer code;\n");
+            if (mode == FieldMode.CODE_MESSAGE) {
+                source.append("    private final String message;\n");
+                source.append("    ").append(name).append("(Integer code, String message) {\n")
+                        .append("        this.code = code;\n")
+                        .append("        this.message = message;\n")
+                        .append("    }\n");
+                source.append("    public String getMessage() {\n        return message;\n    }\n");
+            } else {
+                source.append("    ").append(name).append("(Integer code) {\n")
+                        .append("        this.code = code;\n")
+                        .append("    }\n");
+            }
+            source.append("    @Override\n    public Integer getCode() {\n        return code;\n    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * @param pkg      包名
+     * @param name     DTO类名
+     * @param enumType 枚举类全名
+     * @return 带@ApiModel/@ApiModelProperty的DTO
+     */
+    public static String dtoSource(String pkg, String name, String enumType) {
+        return "package " + pkg + ";\n\n"
+                + "@io.swagger.annotations.ApiModel\n"
+                + "public class " + name + " {\n"
+                + "    @io.swagger.annotations.ApiModelProperty(value = \"状态\")\n"
+                + "    private " + enumType + " status;\n"
+                + "    @io.swagger.annotations.ApiModelProperty(value = \"名称\")\n"
+                + "    private String name;\n"
+                + "    public " + enumType + " getStatus() {\n        return status;\n    }\n"
+                + "    public void setStatus(" + enumType + " status) {\n        this.status = status;\n    }\n"
+                + "    public String getName() {\n        return name;\n    }\n"
+                + "    public void setName(String name) {\n        this.name = name;\n    }\n"
+                + "}\n";
+    }
+
+    /**
+     * 使用当前classpath编译源码并返回加载器
+     *
+     * @param outputDir class输出目录
+     * @param sources   类全名 -> 源码
+     * @return 可加载生成类的类加载器
+     */
+    public static ClassLoader compile(Path outputDir, Map<String, String> sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("A JDK is required to generate benchmark sources");
+        }
+        List<JavaFileObject> units = new ArrayList<>(sources.size());
+        sources.forEach((className, source) -> units.add(new StringSource(className, source)));
+        List<String> options = Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDir.toString(),
+                "-encoding", "UTF-8",
+                "-proc:none",
+                "-nowarn");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Boolean success = compiler.getTask(null, null, diagnostics, options, null, units).call();
+        if (!Boolean.TRUE.equals(success)) {
+            throw new IllegalStateException("Unable to compile synthetic sources: " + diagnostics.getDiagnostics());
+        }
+        return new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, SyntheticSources.class.getClassLoader());
+    }
+
+    private static final class StringSource extends SimpleJavaFileObject {
+        private final String source;
+
+        StringSource(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
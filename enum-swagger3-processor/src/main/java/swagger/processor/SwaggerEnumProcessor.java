@@ -0,0 +1,300 @@
+package swagger.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 编译期为@SwaggerEnum枚举生成描述符类及META-INF/swagger-enum/descriptors索引，
+ * 运行时SwaggerEnumParser优先使用描述符，索引中没有的枚举才回退到反射解析。
+ * 写入索引时合并输出目录中已有的条目，增量或IDE部分编译不会丢失本次未编译的枚举
+ *
+ * @since 2026/10/17
+ */
+@SupportedAnnotationTypes(SwaggerEnumProcessor.SWAGGER_ENUM)
+public class SwaggerEnumProcessor extends AbstractProcessor {
+    static final String SWAGGER_ENUM = "swagger.annotation.SwaggerEnum";
+    static final String DESCRIPTOR_BASE = "swagger.core.SwaggerEnumDescriptor";
+    static final String DESCRIPTOR_SUFFIX = "SwaggerEnumDescriptor";
+    static final String INDEX_LOCATION = "META-INF/swagger-enum/descriptors";
+    private static final String LOMBOK_GETTER = "lombok.Getter";
+
+    /**
+     * 本次编译生成的条目：枚举binary name=描述符类名
+     */
+    private final Map<String, String> index = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.ENUM) {
+                    messager.printMessage(Kind.WARNING, "@SwaggerEnum仅对枚举类生效", element);
+                    continue;
+                }
+                processEnum((TypeElement) element);
+            }
+        }
+        return false;
+    }
+
+    private void processEnum(TypeElement enumType) {
+        AnnotationMirror mirror = findAnnotation(enumType, SWAGGER_ENUM);
+        if (mirror == null) {
+            return;
+        }
+        String codeName = attribute(mirror, "codeName");
+        String messageName = attribute(mirror, "messageName");
+        if (codeName.isEmpty() || messageName.isEmpty()) {
+            messager.printMessage(Kind.ERROR, "@SwaggerEnum的codeName、messageName不能为空", enumType, mirror);
+            return;
+        }
+        VariableElement codeField = findField(enumType, codeName);
+        if (codeField == null) {
+            messager.printMessage(Kind.ERROR,
+                    "@SwaggerEnum(codeName = \"" + codeName + "\")在" + enumType.getSimpleName() + "中不存在", enumType, mirror);
+            return;
+        }
+        VariableElement messageField = findField(enumType, messageName);
+        if (messageField == null) {
+            messager.printMessage(Kind.WARNING,
+                    "@SwaggerEnum(messageName = \"" + messageName + "\")在" + enumType.getSimpleName()
+                            + "中不存在，将以枚举常量名作为message", enumType, mirror);
+        }
+        if (!isAccessible(enumType)) {
+            messager.printMessage(Kind.NOTE, "私有枚举无法生成描述符，运行时使用反射解析", enumType);
+            return;
+        }
+        String codeAccessor = accessor(enumType, codeField);
+        String messageAccessor = messageField == null ? "e.toString()" : accessor(enumType, messageField);
+        if (codeAccessor == null || messageAccessor == null) {
+            messager.printMessage(Kind.NOTE, "code/message字段为private且没有getter，运行时使用反射解析", enumType);
+            return;
+        }
+        writeDescriptor(enumType, codeField.asType(), codeAccessor, messageAccessor);
+    }
+
+    private void writeDescriptor(TypeElement enumType, TypeMirror codeType, String codeAccessor, String messageAccessor) {
+        PackageElement pkg = elements.getPackageOf(enumType);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = descriptorSimpleName(enumType) + "_" + DESCRIPTOR_SUFFIX;
+        String descriptorName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String enumName = enumType.getQualifiedName().toString();
+        String codeClass = codeType.getKind().isPrimitive()
+                ? types.boxedClass(types.getPrimitiveType(codeType.getKind())).getQualifiedName().toString()
+                : types.erasure(codeType).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Generated by ").append(SwaggerEnumProcessor.class.getName()).append(", do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName)
+                .append(" extends ").append(DESCRIPTOR_BASE).append("<").append(enumName).append("> {\n\n")
+                .append("    public ").append(simpleName).append("() {\n")
+                .append("        super(").append(enumName).append(".class, ").append(codeClass).append(".class);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    protected ").append(enumName).append("[] constants() {\n")
+                .append("        return ").append(enumName).append(".values();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    protected Object code(").append(enumName).append(" e) {\n")
+                .append("        return ").append(codeAccessor).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    protected Object message(").append(enumName).append(" e) {\n")
+                .append("        return ").append(messageAccessor).append(";\n")
+                .append("    }\n")
+                .append("}\n");
+        try (Writer writer = filer.createSourceFile(descriptorName, enumType).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException ex) {
+            messager.printMessage(Kind.ERROR, "生成" + descriptorName + "失败：" + ex.getMessage(), enumType);
+            return;
+        }
+        index.put(elements.getBinaryName(enumType).toString(), descriptorName);
+        originatingElements.add(enumType);
+    }
+
+    /**
+     * 与输出目录中已有的索引合并后整体重写，本次编译的条目优先；
+     * 仍存在但已去掉@SwaggerEnum的枚举从索引中移除
+     */
+    private void writeIndex() {
+        if (index.isEmpty()) {
+            return;
+        }
+        Map<String, String> merged = new TreeMap<>();
+        readExistingIndex().forEach((enumName, descriptorName) -> {
+            TypeElement existing = elements.getTypeElement(enumName.replace('$', '.'));
+            if (existing == null || findAnnotation(existing, SWAGGER_ENUM) != null) {
+                merged.put(enumName, descriptorName);
+            }
+        });
+        merged.putAll(index);
+        StringBuilder content = new StringBuilder();
+        merged.forEach((enumName, descriptorName) ->
+                content.append(escape(enumName)).append('=').append(escape(descriptorName)).append('\n'));
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION,
+                    originatingElements.toArray(new Element[0]));
+            try (Writer writer = resource.openWriter()) {
+                writer.write(content.toString());
+            }
+        } catch (IOException ex) {
+            messager.printMessage(Kind.ERROR, "生成" + INDEX_LOCATION + "失败：" + ex.getMessage());
+        }
+    }
+
+    private Map<String, String> readExistingIndex() {
+        Map<String, String> existing = new TreeMap<>();
+        try (InputStream in = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION).openInputStream()) {
+            Properties properties = new Properties();
+            properties.load(in);
+            properties.stringPropertyNames().forEach(name -> existing.put(name, properties.getProperty(name)));
+        } catch (IOException | IllegalArgumentException ex) {
+            // 首次编译时索引不存在
+        }
+        return existing;
+    }
+
+    /**
+     * 索引按properties格式读取（ISO-8859-1），非ASCII类名需转义
+     */
+    private static String escape(String name) {
+        StringBuilder escaped = new StringBuilder(name.length());
+        for (char c : name.toCharArray()) {
+            if (c < 0x80) {
+                escaped.append(c);
+            } else {
+                escaped.append(String.format("\\u%04x", (int) c));
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 非private字段直接访问，否则使用getter（含lombok @Getter）
+     */
+    private String accessor(TypeElement enumType, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "e." + name;
+        }
+        String getter = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(enumType.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(getter)
+                    && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                return "e." + getter + "()";
+            }
+        }
+        if (findAnnotation(field, LOMBOK_GETTER) != null || findAnnotation(enumType, LOMBOK_GETTER) != null) {
+            return "e." + getter + "()";
+        }
+        return null;
+    }
+
+    private boolean isAccessible(TypeElement enumType) {
+        for (Element element = enumType; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String descriptorSimpleName(TypeElement enumType) {
+        StringBuilder name = new StringBuilder(enumType.getSimpleName());
+        for (Element element = enumType.getEnclosingElement(); element instanceof TypeElement; element = element.getEnclosingElement()) {
+            name.insert(0, element.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private static VariableElement findField(TypeElement enumType, String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(enumType.getEnclosedElements())) {
+            if (field.getKind() == ElementKind.FIELD && field.getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private String attribute(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,167 @@
+package swagger;
+
+import org.springframework.util.StringUtils;
+import springfox.documentation.service.AllowableListValues;
+import springfox.documentation.service.AllowableRangeValues;
+import springfox.documentation.service.AllowableValues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 解析allowableValues字符串（range[1,5]、range(-infinity,0)、a,b,c或单值），
+ * 语义与原正则实现一致，单次扫描不使用正则。插件内部使用按原始字符串缓存的共享不可变结果，
+ * 对外的{@link #parse(String)}与原实现一样每次返回新的实例
+ *
+ * @since 2026/10/17
+ */
+public final class AllowableValuesParser {
+    private static final String RANGE = "range";
+    private static final String INFINITY = "infinity";
+    private static final String LIST = "LIST";
+    /**
+     * allowableValues来自注解，取值有限；超过上限后不再缓存新值，只做解析
+     */
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<String, AllowableValues> CACHE = new ConcurrentHashMap<>();
+
+    private AllowableValuesParser() {
+    }
+
+    /**
+     * @param allowableValueString 注解中的allowableValues
+     * @return 新的可选值实例，列表可修改；不能解析为range且无内容时为空列表
+     */
+    public static AllowableValues parse(String allowableValueString) {
+        AllowableValues shared = parseShared(allowableValueString);
+        if (shared instanceof AllowableListValues) {
+            AllowableListValues listValues = (AllowableListValues) shared;
+            return new AllowableListValues(new ArrayList<>(listValues.getValues()), listValues.getValueType());
+        }
+        AllowableRangeValues range = (AllowableRangeValues) shared;
+        return new AllowableRangeValues(range.getMin(), range.getExclusiveMin(), range.getMax(),
+                range.getExclusiveMax());
+    }
+
+    /**
+     * @param allowableValueString 注解中的allowableValues
+     * @return 共享的不可变实例，调用方不能修改
+     */
+    static AllowableValues parseShared(String allowableValueString) {
+        AllowableValues allowableValues = CACHE.get(allowableValueString);
+        if (allowableValues == null) {
+            allowableValues = SwaggerEnumInterner.getInstance().intern(scan(allowableValueString));
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(allowableValueString, allowableValues);
+            }
+        }
+        return allowableValues;
+    }
+
+    static AllowableValues scan(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        AllowableValues range = scanRange(value, start, end);
+        if (range != null) {
+            return range;
+        }
+        List<String> values = new ArrayList<>();
+        int itemStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || value.charAt(i) == ',') {
+                addTrimmed(value, itemStart, i, values);
+                itemStart = i + 1;
+            }
+        }
+        // 原实现对不含逗号的单值使用StringUtils.hasText，仅含Unicode空白（如U+2003）时为空列表
+        if (values.size() == 1 && value.indexOf(',', start) < 0 && !StringUtils.hasText(values.get(0))) {
+            values.clear();
+        }
+        return new AllowableListValues(values, LIST);
+    }
+
+    /**
+     * 等价于去掉空格后匹配range([\[(])(.*),(.*)([])])$，最后一个逗号分隔最小值与最大值
+     */
+    private static AllowableValues scanRange(String value, int start, int end) {
+        int index = start;
+        for (int i = 0; i < RANGE.length(); i++) {
+            index = skipSpaces(value, index, end);
+            if (index >= end || value.charAt(index) != RANGE.charAt(i)) {
+                return null;
+            }
+            index++;
+        }
+        index = skipSpaces(value, index, end);
+        if (index >= end) {
+            return null;
+        }
+        char open = value.charAt(index);
+        char close = value.charAt(end - 1);
+        if ((open != '[' && open != '(') || (close != ']' && close != ')') || index + 1 > end - 1) {
+            return null;
+        }
+        int comma = -1;
+        for (int i = index + 1; i < end - 1; i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return null;
+            }
+            if (c == ',') {
+                comma = i;
+            }
+        }
+        if (comma < 0) {
+            return null;
+        }
+        String min = removeSpaces(value, index + 1, comma);
+        String max = removeSpaces(value, comma + 1, end - 1);
+        return new AllowableRangeValues(
+                min.contains(INFINITY) ? null : min,
+                open == '(',
+                max.contains(INFINITY) ? null : max,
+                close == ')');
+    }
+
+    private static void addTrimmed(String value, int start, int end, List<String> values) {
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start < end) {
+            values.add(value.substring(start, end));
+        }
+    }
+
+    private static int skipSpaces(String value, int index, int end) {
+        while (index < end && value.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static String removeSpaces(String value, int start, int end) {
+        int space = value.indexOf(' ', start);
+        if (space < 0 || space >= end) {
+            return value.substring(start, end);
+        }
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c != ' ') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package swagger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 应用就绪（ApplicationReadyEvent）后在后台线程中生成文档，不再占用启动与就绪探针的时间；
+ * 运行在Java 21及以上且开启virtualThreads时使用虚拟线程
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SwaggerEnumAsyncDocumentation implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+    private static final String THREAD_NAME = "swagger-enum-documentation";
+
+    public enum State {
+        PENDING,
+        BUILDING,
+        READY,
+        FAILED
+    }
+
+    private final ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper;
+    private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+    private boolean virtualThreads;
+    private volatile Thread thread;
+    private volatile Throwable failure;
+    private volatile long buildMillis;
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!state.compareAndSet(State.PENDING, State.BUILDING)) {
+            return;
+        }
+        thread = start(this::build);
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        try {
+            SmartLifecycle lifecycle = bootstrapper.getIfAvailable();
+            if (Objects.isNull(lifecycle)) {
+                throw new IllegalStateException("No springfox documentation bootstrapper available");
+            }
+            lifecycle.start();
+            buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            state.set(State.READY);
+            log.info("Swagger documentation built in background in {} ms", buildMillis);
+        } catch (Throwable ex) {
+            failure = ex;
+            state.set(State.FAILED);
+            log.error("Unable to build swagger documentation", ex);
+        }
+    }
+
+    private Thread start(Runnable task) {
+        if (virtualThreads) {
+            try {
+                Method startVirtualThread = Thread.class.getMethod("startVirtualThread", Runnable.class);
+                return (Thread) startVirtualThread.invoke(null, task);
+            } catch (ReflectiveOperationException ex) {
+                log.debug("Virtual threads are not available, fallback to platform thread");
+            }
+        }
+        Thread platform = new Thread(task, THREAD_NAME);
+        platform.setDaemon(true);
+        platform.start();
+        return platform;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+
+    @Override
+    public void destroy() {
+        Thread current = thread;
+        if (Objects.nonNull(current)) {
+            current.interrupt();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package swagger;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import springfox.documentation.oas.web.OpenApiTransformationContext;
+import springfox.documentation.oas.web.OpenApiTransformationFilter;
+import springfox.documentation.service.StringVendorExtension;
+import springfox.documentation.service.VendorExtension;
+import springfox.documentation.spi.DocumentationType;
+import swagger.core.EnumDefinitions;
+import swagger.core.EnumSchemas;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 将插件标记了x-swagger-enum的属性、参数替换为components/schemas中的共享枚举定义
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+@Order(SwaggerEnumParameterBuilderPlugin.ENUM_PLUGIN_ORDER)
+public class SwaggerEnumComponentSchemaFilter implements OpenApiTransformationFilter, BeanClassLoaderAware {
+    /**
+     * 插件写入的临时扩展，值为枚举类名，转换后移除
+     */
+    static final String ENUM_EXTENSION = "x-swagger-enum";
+    private static final String COMPONENTS_REF = "#/components/schemas/";
+
+    private final Map<String, Class<?>> enumTypes = new ConcurrentReferenceHashMap<>();
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+    /**
+     * 插件在属性、参数上写入的标记，由本过滤器在输出前替换为$ref
+     */
+    static List<VendorExtension> enumExtensions(Class<?> enumType) {
+        return Collections.singletonList(new StringVendorExtension(ENUM_EXTENSION, enumType.getName()));
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public OpenAPI transform(OpenApiTransformationContext<HttpServletRequest> context) {
+        OpenAPI openApi = context.getSpecification();
+        Map<Class<?>, String> names = new HashMap<>();
+        Map<String, Class<?>> usedNames = new TreeMap<>();
+        if (Objects.nonNull(openApi.getComponents()) && Objects.nonNull(openApi.getComponents().getSchemas())) {
+            // 已有的模型schema名不可占用，否则枚举会覆盖同名模型
+            openApi.getComponents().getSchemas().keySet().forEach(name -> usedNames.put(name, null));
+            openApi.getComponents().getSchemas().values().stream()
+                    .filter(schema -> Objects.nonNull(schema.getProperties()))
+                    .forEach(schema -> schema.getProperties().replaceAll((property, propertySchema) ->
+                            replaceProperty(propertySchema, names, usedNames)));
+        }
+        if (Objects.nonNull(openApi.getPaths())) {
+            for (PathItem pathItem : openApi.getPaths().values()) {
+                for (Operation operation : pathItem.readOperations()) {
+                    if (Objects.nonNull(operation.getParameters())) {
+                        operation.getParameters().forEach(parameter -> replaceParameter(parameter, names, usedNames));
+                    }
+                }
+            }
+        }
+        if (!names.isEmpty()) {
+            if (Objects.isNull(openApi.getComponents())) {
+                openApi.setComponents(new Components());
+            }
+            // 缓存的是不可变的EnumDefinition，每个文档使用新建的schema，下游修改不会影响其它分组
+            names.forEach((enumType, name) -> openApi.getComponents().addSchemas(name,
+                    EnumSchemas.componentSchema(EnumDefinitions.getInstance().get(enumType))));
+        }
+        return openApi;
+    }
+
+    private Schema<?> replaceProperty(Schema<?> schema, Map<Class<?>, String> names, Map<String, Class<?>> usedNames) {
+        Class<?> enumType = removeEnumExtension(schema.getExtensions());
+        if (Objects.isNull(enumType)) {
+            return schema;
+        }
+        Schema<?> reference = new Schema<>().$ref(COMPONENTS_REF + componentName(enumType, names, usedNames));
+        if (Objects.isNull(schema.getDescription()) && !Boolean.TRUE.equals(schema.getReadOnly())) {
+            return reference;
+        }
+        // OAS3中$ref的同级属性会被忽略，通过allOf保留属性自身的描述
+        ComposedSchema composed = new ComposedSchema();
+        composed.addAllOfItem(reference);
+        composed.setDescription(schema.getDescription());
+        composed.setReadOnly(schema.getReadOnly());
+        composed.setExample(schema.getExample());
+        return composed;
+    }
+
+    private void replaceParameter(Parameter parameter, Map<Class<?>, String> names, Map<String, Class<?>> usedNames) {
+        Class<?> enumType = removeEnumExtension(parameter.getExtensions());
+        if (Objects.nonNull(enumType)) {
+            parameter.setSchema(new Schema<>().$ref(COMPONENTS_REF + componentName(enumType, names, usedNames)));
+        }
+    }
+
+    private Class<?> removeEnumExtension(Map<String, Object> extensions) {
+        if (Objects.isNull(extensions)) {
+            return null;
+        }
+        Object enumTypeName = extensions.remove(ENUM_EXTENSION);
+        if (Objects.isNull(enumTypeName)) {
+            return null;
+        }
+        return enumTypes.computeIfAbsent(enumTypeName.toString(), name -> {
+            try {
+                return ClassUtils.forName(name, classLoader);
+            } catch (ClassNotFoundException | LinkageError ex) {
+                log.warn("Unable to load swagger enum {}", name, ex);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 优先使用枚举简单类名，与已有模型或其它枚举重名时使用全类名，仍重名时追加序号
+     */
+    private static String componentName(Class<?> enumType, Map<Class<?>, String> names, Map<String, Class<?>> usedNames) {
+        return names.computeIfAbsent(enumType, type -> {
+            String name = type.getSimpleName();
+            if (usedNames.containsKey(name)) {
+                name = type.getName().replace('.', '_').replace('$', '_');
+            }
+            String candidate = name;
+            for (int i = 2; usedNames.containsKey(candidate); i++) {
+                candidate = name + "_" + i;
+            }
+            usedNames.put(candidate, type);
+            return candidate;
+        });
+    }
+
+    @Override
+    public boolean supports(DocumentationType delimiter) {
+        return DocumentationType.OAS_30.equals(delimiter);
+    }
+}
@@ -6,31 +6,24 @@ import io.swagger.annotations.ApiModelProperty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import springfox.documentation.builders.PropertySpecificationBuilder;
 import springfox.documentation.schema.ModelSpecification;
 import springfox.documentation.schema.property.ModelSpecificationFactory;
-import springfox.documentation.service.AllowableListValues;
-import springfox.documentation.service.AllowableRangeValues;
 import springfox.documentation.service.AllowableValues;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.schema.ModelPropertyBuilderPlugin;
 import springfox.documentation.spi.schema.contexts.ModelPropertyContext;
 import springfox.documentation.swagger.common.SwaggerPluginSupport;
+import swagger.core.FieldAccessor;
+import swagger.metrics.SwaggerEnumOperation;
+import swagger.metrics.SwaggerEnumRecorders;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
-import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.toList;
-import static org.springframework.util.StringUtils.hasText;
 import static org.springframework.util.StringUtils.isEmpty;
 import static springfox.documentation.schema.Annotations.findPropertyAnnotation;
 import static springfox.documentation.swagger.schema.ApiModelProperties.findApiModePropertyAnnotation;
@@ -46,10 +39,28 @@ import static springfox.documentation.swagger.schema.ApiModelProperties.findApiM
 @RequiredArgsConstructor
 @Slf4j
 public class SwaggerEnumConverterPlugin extends SwaggerEnumParser implements ModelPropertyBuilderPlugin {
+    /**
+     * PropertySpecificationBuilder未提供description的getter
+     */
+    private static final FieldAccessor DESCRIPTION = FieldAccessor.of(PropertySpecificationBuilder.class, "description");
+    private static final SwaggerEnumInterner INTERNER = SwaggerEnumInterner.getInstance();
     private final ModelSpecificationFactory modelSpecifications;
+    private final SwaggerEnumPluginOptions options;
+    /**
+     * 各Docket分组共享的属性计算结果
+     */
+    private final Map<SwaggerEnumPropertyPlan.Key, SwaggerEnumPropertyPlan> plans = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * 兼容自行声明插件Bean的写法，使用默认选项
+     */
+    public SwaggerEnumConverterPlugin(ModelSpecificationFactory modelSpecifications) {
+        this(modelSpecifications, new SwaggerEnumPluginOptions());
+    }
 
     @Override
     public void apply(ModelPropertyContext context) {
+        long start = SwaggerEnumRecorders.start();
         Optional<ApiModelProperty> ann = Optional.empty();
         if (context.getAnnotatedElement().isPresent()) {
             ann =
@@ -73,56 +84,57 @@ public class SwaggerEnumConverterPlugin extends SwaggerEnumParser implements Mod
             if (modelSpecifications.getEnumTypeDeterminer().isEnum(rawType)) {
 
 
-                String displayValue = parseSwaggerEnumAnnotation(rawType);
                 // description
-                Field description = ReflectionUtils.findField(PropertySpecificationBuilder.class, "description");
-                description.setAccessible(true);
-                String descriptionValue = (String) ReflectionUtils.getField(description, context.getSpecificationBuilder());
-                displayValue = Objects.nonNull(descriptionValue) ? descriptionValue + displayValue : displayValue;
-                ModelSpecification modelSpecification =
-                        ann.map(a -> {
-                            if (!a.dataType().isEmpty()) {
-                                return modelSpecifications
-                                        .create(context.getOwner(), toType(context.getResolver()).apply(a));
-                            }
-                            ResolvedType resolvedType = getBodyEnumResolvedType(context.getResolver(), rawType);
-                            if (Objects.nonNull(resolvedType)) {
-                                return modelSpecifications
-                                        .create(context.getOwner(), resolvedType);
-                            }
-                            return null;
-                        })
-                                .orElse(null);
-                Optional<ApiModelProperty> finalAnnotation = ann;
-                context.getSpecificationBuilder().description(displayValue)
-                        .type(modelSpecification)
-                        .readOnly(ann.map(ApiModelProperty::readOnly).orElse(false))
-                        .isHidden(ann.map(ApiModelProperty::hidden).orElse(false))
-                        .position(ann.map(ApiModelProperty::position).orElse(0))
-                        .required(ann.map(ApiModelProperty::required).orElse(false))
-                        .example(ann.map(toExample()).orElse(""))
-                        .enumerationFacet(e -> e.allowedValues(finalAnnotation.map(toAllowableValues()).orElse(null)));
-
-                context.getBuilder().description(displayValue)
-                        .type(ann.map(a -> {
-                            ResolvedType resolvedType = getBodyEnumResolvedType(context.getResolver(), rawType);
-                            if (Objects.nonNull(resolvedType)) {
-                                return resolvedType;
-                            }
-                            return toType(context.getResolver()).apply(a);
-                        }).orElse(null))
-                        .allowableValues(ann.map(toAllowableValues()).orElse(null))
-                        .required(ann.map(ApiModelProperty::required).orElse(false))
-                        .readOnly(ann.map(ApiModelProperty::readOnly).orElse(false))
-                        .isHidden(ann.map(ApiModelProperty::hidden).orElse(false))
-                        .position(ann.map(ApiModelProperty::position).orElse(0))
-                        .example(ann.map(toExample()).orElse(""));
+                String descriptionValue = (String) DESCRIPTION.get(context.getSpecificationBuilder());
+                SwaggerEnumPropertyPlan.Key key = new SwaggerEnumPropertyPlan.Key(
+                        context.getOwner().getType(),
+                        context.getOwner().isReturnType(),
+                        context.getBeanPropertyDefinition().get().getName(),
+                        rawType);
+                SwaggerEnumPropertyPlan plan = plans.get(key);
+                boolean cacheHit = Objects.nonNull(plan) && plan.matches(descriptionValue);
+                if (!cacheHit) {
+                    plan = createPlan(context, ann.get(), rawType, descriptionValue);
+                    if (plan.isCacheable()) {
+                        plans.put(key, plan);
+                    }
+                }
+                plan.apply(context.getSpecificationBuilder(), context.getBuilder());
+                if (start != SwaggerEnumRecorders.DISABLED) {
+                    SwaggerEnumRecorders.record(SwaggerEnumOperation.CONVERTER_APPLY, rawType, start,
+                            getEnumMetadata(rawType).getCodes().size(), plan.getDisplayValue(), cacheHit);
+                }
+                return;
             }
         }
-
-
+        SwaggerEnumRecorders.record(SwaggerEnumOperation.CONVERTER_APPLY, null, start, 0, null, null);
     }
 
+    private SwaggerEnumPropertyPlan createPlan(ModelPropertyContext context, ApiModelProperty annotation,
+                                               Class<?> rawType, String descriptionValue) {
+        SwaggerEnumMetadata metadata = getEnumMetadata(rawType);
+        ResolvedType codeType = metadata.getCodeType();
+        ModelSpecification modelSpecification = null;
+        if (!annotation.dataType().isEmpty()) {
+            modelSpecification = modelSpecifications
+                    .create(context.getOwner(), toType(context.getResolver()).apply(annotation));
+        } else if (Objects.nonNull(codeType)) {
+            modelSpecification = modelSpecifications
+                    .create(context.getOwner(), codeType);
+        }
+        return new SwaggerEnumPropertyPlan(
+                descriptionValue,
+                INTERNER.concat(descriptionValue, metadata.getDescription()),
+                modelSpecification,
+                Objects.nonNull(codeType) ? codeType : toType(context.getResolver()).apply(annotation),
+                toAllowableValues().apply(annotation),
+                options.isComponentSchemas() ? SwaggerEnumComponentSchemaFilter.enumExtensions(rawType) : null,
+                annotation.readOnly(),
+                annotation.hidden(),
+                annotation.position(),
+                annotation.required(),
+                toExample().apply(annotation));
+    }
 
     static Function<ApiModelProperty, ResolvedType> toType(final TypeResolver resolver) {
         return annotation -> {
@@ -145,35 +157,16 @@ public class SwaggerEnumConverterPlugin extends SwaggerEnumParser implements Mod
     }
 
     static Function<ApiModelProperty, AllowableValues> toAllowableValues() {
-        return annotation -> allowableValueFromString(annotation.allowableValues());
+        return annotation -> AllowableValuesParser.parseShared(annotation.allowableValues());
     }
 
-    @SuppressWarnings("java:S4784")
-    private static final Pattern RANGE_PATTERN = Pattern.compile("range([\\[(])(.*),(.*)([])])$");
-
+    /**
+     * @param allowableValueString 注解中的allowableValues
+     * @return 新的可选值实例
+     * @see AllowableValuesParser#parse(String)
+     */
     public static AllowableValues allowableValueFromString(String allowableValueString) {
-        AllowableValues allowableValues = new AllowableListValues(new ArrayList<String>(), "LIST");
-        String trimmed = allowableValueString.trim();
-        Matcher matcher = RANGE_PATTERN.matcher(trimmed.replaceAll(" ", ""));
-        if (matcher.matches()) {
-            if (matcher.groupCount() != 4) {
-                log.warn("Unable to parse range specified {} correctly", trimmed);
-            } else {
-                allowableValues = new AllowableRangeValues(
-                        matcher.group(2).contains("infinity") ? null : matcher.group(2),
-                        matcher.group(1).equals("("),
-                        matcher.group(3).contains("infinity") ? null : matcher.group(3),
-                        matcher.group(4).equals(")"));
-            }
-        } else if (trimmed.contains(",")) {
-            List<String> split =
-                    Stream.of(trimmed.split(",")).map(String::trim).filter(item -> !item.isEmpty()).collect(toList());
-            allowableValues = new AllowableListValues(split, "LIST");
-        } else if (hasText(trimmed)) {
-            List<String> singleVal = singletonList(trimmed);
-            allowableValues = new AllowableListValues(singleVal, "LIST");
-        }
-        return allowableValues;
+        return AllowableValuesParser.parse(allowableValueString);
     }
 
 
@@ -0,0 +1,229 @@
+package swagger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import swagger.core.EnumClassScanner;
+import swagger.core.EnumDefinition;
+import swagger.core.EnumDefinitions;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 枚举字典接口：GET {path}返回全部@SwaggerEnum枚举的code-message映射，GET {path}/{name}按简单类名或全类名返回单个枚举。
+ * 响应体在首次请求时构建一次并缓存字节数组及gzip副本，支持强ETag与If-None-Match协商缓存
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+@RequestMapping("${" + SwaggerEnumDictionaryController.PATH_PROPERTY + ":" + SwaggerEnumDictionaryController.DEFAULT_PATH + "}")
+public class SwaggerEnumDictionaryController implements BeanClassLoaderAware {
+    static final String PATH_PROPERTY = "swagger.enum.dictionary.path";
+    static final String DEFAULT_PATH = "/swagger-enums";
+    private static final String GZIP = "gzip";
+    private static final String JSON_UTF8 = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final String[] basePackages;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+    private volatile Dictionary dictionary;
+
+    /**
+     * @param basePackages 扫描@SwaggerEnum枚举的包
+     */
+    public SwaggerEnumDictionaryController(String[] basePackages) {
+        this.basePackages = basePackages;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @GetMapping
+    public void all(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        write(getDictionary().all, request, response);
+    }
+
+    @GetMapping("/{name:.+}")
+    public void one(@PathVariable("name") String name, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Body body = getDictionary().enums.get(name);
+        if (Objects.isNull(body)) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Unknown swagger enum " + name);
+            return;
+        }
+        write(body, request, response);
+    }
+
+    private Dictionary getDictionary() throws JsonProcessingException {
+        Dictionary current = dictionary;
+        if (Objects.isNull(current)) {
+            synchronized (this) {
+                current = dictionary;
+                if (Objects.isNull(current)) {
+                    current = buildDictionary();
+                    dictionary = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Dictionary buildDictionary() throws JsonProcessingException {
+        List<String> classNames = new ArrayList<>(EnumClassScanner.scan(basePackages, classLoader, true));
+        // 按类名排序，各实例生成的字节及ETag一致
+        Collections.sort(classNames);
+        List<Class<?>> enumTypes = new ArrayList<>(classNames.size());
+        Map<String, Integer> simpleNames = new HashMap<>();
+        for (String className : classNames) {
+            try {
+                Class<?> enumType = ClassUtils.forName(className, classLoader);
+                enumTypes.add(enumType);
+                simpleNames.merge(enumType.getSimpleName(), 1, Integer::sum);
+            } catch (ClassNotFoundException | LinkageError ex) {
+                log.warn("Unable to load swagger enum {}", className, ex);
+            }
+        }
+        EnumDefinitions definitions = EnumDefinitions.getInstance();
+        Map<String, Map<String, String>> values = new LinkedHashMap<>();
+        Map<String, Body> enums = new HashMap<>();
+        for (Class<?> enumType : enumTypes) {
+            EnumDefinition definition = definitions.get(enumType);
+            Map<String, String> codeMessages = new LinkedHashMap<>();
+            for (int i = 0; i < definition.getCodes().size(); i++) {
+                codeMessages.put(definition.getCodes().get(i), definition.getMessages().get(i));
+            }
+            // 重名的枚举都只能按全类名访问，结果不受扫描顺序影响
+            boolean unique = simpleNames.get(enumType.getSimpleName()) == 1;
+            String name = unique ? enumType.getSimpleName() : enumType.getName();
+            values.put(name, codeMessages);
+            Body body = Body.of(objectMapper.writeValueAsBytes(codeMessages));
+            enums.put(enumType.getName(), body);
+            if (unique) {
+                enums.put(enumType.getSimpleName(), body);
+            }
+        }
+        log.debug("Built swagger enum dictionary with {} enums", values.size());
+        return new Dictionary(Body.of(objectMapper.writeValueAsBytes(values)), enums);
+    }
+
+    private static void write(Body body, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = Objects.nonNull(body.gzip) && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.ETAG, gzip ? body.gzipEtag : body.etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), body)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        byte[] bytes = gzip ? body.gzip : body.json;
+        response.setContentType(JSON_UTF8);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    /**
+     * If-None-Match使用弱比较，两种编码的ETag都视为命中
+     */
+    private static boolean isNotModified(String ifNoneMatch, Body body) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        for (String tag : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+            String etag = tag.trim();
+            if ("*".equals(etag)) {
+                return true;
+            }
+            if (etag.startsWith("W/")) {
+                etag = etag.substring(2);
+            }
+            if (etag.equals(body.etag) || etag.equals(body.gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (String coding : StringUtils.commaDelimitedListToStringArray(acceptEncoding)) {
+            String[] parts = coding.split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return false;
+    }
+
+    private static final class Dictionary {
+        private final Body all;
+        /**
+         * 全类名及（不重名时的）简单类名
+         */
+        private final Map<String, Body> enums;
+
+        private Dictionary(Body all, Map<String, Body> enums) {
+            this.all = all;
+            this.enums = enums;
+        }
+    }
+
+    /**
+     * 预先序列化的响应体，gzip后不更小时不保留压缩副本
+     */
+    private static final class Body {
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+
+        private Body(byte[] json, byte[] gzip, String hash) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = "\"" + hash + "\"";
+            this.gzipEtag = "\"" + hash + "-" + GZIP + "\"";
+        }
+
+        static Body of(byte[] json) {
+            byte[] gzip = gzip(json);
+            return new Body(json, gzip.length < json.length ? gzip : null, DigestUtils.md5DigestAsHex(json));
+        }
+
+        private static byte[] gzip(byte[] json) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package swagger;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * 后台文档生成状态：生成中为UNKNOWN（不影响整体状态），完成为UP，失败为DOWN。
+ * 仅在引入actuator时注册
+ *
+ * @since 2026/10/17
+ */
+@RequiredArgsConstructor
+public class SwaggerEnumDocumentationHealthIndicator implements HealthIndicator {
+    private final SwaggerEnumAsyncDocumentation documentation;
+
+    @Override
+    public Health health() {
+        SwaggerEnumAsyncDocumentation.State state = documentation.getState();
+        switch (state) {
+            case READY:
+                return Health.up().withDetail("buildMillis", documentation.getBuildMillis()).build();
+            case FAILED:
+                return Health.down(new IllegalStateException(documentation.getFailure())).build();
+            default:
+                return Health.unknown().withDetail("state", state).build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package swagger;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 后台文档生成完成前，文档接口返回503并提示稍后重试
+ *
+ * @since 2026/10/17
+ */
+@RequiredArgsConstructor
+public class SwaggerEnumDocumentationReadinessFilter extends OncePerRequestFilter {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final SwaggerEnumAsyncDocumentation documentation;
+    private final String[] paths;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        SwaggerEnumAsyncDocumentation.State state = documentation.getState();
+        if (state == SwaggerEnumAsyncDocumentation.State.READY || state == SwaggerEnumAsyncDocumentation.State.FAILED) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String documentationPath : paths) {
+            if (path.startsWith(documentationPath)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Swagger documentation is being built");
+    }
+}
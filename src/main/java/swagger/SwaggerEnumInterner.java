@@ -0,0 +1,146 @@
+package swagger;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import springfox.documentation.service.AllowableListValues;
+import springfox.documentation.service.AllowableValues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 规范化插件生成的描述字符串与可选值列表：内容相同的结果在所有属性、参数及Docket分组间共享同一个不可变实例，
+ * 避免重复副本随DocumentationCache常驻内存。缓存为软引用，内存紧张时可回收
+ *
+ * @since 2026/10/17
+ */
+public final class SwaggerEnumInterner {
+    private static final SwaggerEnumInterner INSTANCE = new SwaggerEnumInterner();
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private final Map<String, String> strings = new ConcurrentReferenceHashMap<>();
+    private final Map<List<String>, List<String>> lists = new ConcurrentReferenceHashMap<>();
+    private final Map<AllowableKey, AllowableListValues> allowableValues = new ConcurrentReferenceHashMap<>();
+    private final LongAdder savedBytes = new LongAdder();
+
+    private SwaggerEnumInterner() {
+    }
+
+    public static SwaggerEnumInterner getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param value 字符串
+     * @return 内容相同的共享实例
+     */
+    public String intern(String value) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        String canonical = strings.putIfAbsent(value, value);
+        if (Objects.isNull(canonical)) {
+            return value;
+        }
+        if (canonical != value) {
+            savedBytes.add(sizeOf(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * 拼接属性自身描述与枚举键值描述
+     *
+     * @param description     属性描述，可为null
+     * @param enumDescription 枚举键值描述
+     * @return 共享实例
+     */
+    public String concat(String description, String enumDescription) {
+        return intern(Objects.isNull(description) ? enumDescription : description + enumDescription);
+    }
+
+    /**
+     * @param values 字符串列表
+     * @return 内容相同的共享不可变列表，元素同样为共享实例
+     */
+    public List<String> intern(List<String> values) {
+        if (Objects.isNull(values)) {
+            return null;
+        }
+        List<String> canonical = lists.get(values);
+        if (Objects.nonNull(canonical)) {
+            if (canonical != values) {
+                savedBytes.add(sizeOf(values));
+            }
+            return canonical;
+        }
+        List<String> copy = new ArrayList<>(values.size());
+        values.forEach(value -> copy.add(intern(value)));
+        List<String> unmodifiable = Collections.unmodifiableList(copy);
+        canonical = lists.putIfAbsent(unmodifiable, unmodifiable);
+        return Objects.isNull(canonical) ? unmodifiable : canonical;
+    }
+
+    /**
+     * @param values 可选值
+     * @return 列表类型的可选值替换为共享实例，其它类型原样返回
+     */
+    public AllowableValues intern(AllowableValues values) {
+        if (!(values instanceof AllowableListValues)) {
+            return values;
+        }
+        AllowableListValues listValues = (AllowableListValues) values;
+        if (Objects.isNull(listValues.getValues())) {
+            return values;
+        }
+        List<String> canonicalValues = intern(listValues.getValues());
+        AllowableListValues canonical = allowableValues.computeIfAbsent(
+                new AllowableKey(canonicalValues, listValues.getValueType()), key ->
+                        canonicalValues == listValues.getValues() ? listValues
+                                : new AllowableListValues(canonicalValues, listValues.getValueType()));
+        if (canonical != values) {
+            savedBytes.add(OBJECT_HEADER + 2L * REFERENCE);
+        }
+        return canonical;
+    }
+
+    /**
+     * @return 复用共享实例而少保留的字节数（按对象头、引用与字符数估算）
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    private static long sizeOf(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return align(OBJECT_HEADER + 2L * REFERENCE) + align(OBJECT_HEADER + (long) value.length() * (latin1 ? 1 : 2));
+    }
+
+    private static long sizeOf(List<String> values) {
+        long size = align(OBJECT_HEADER + 2L * REFERENCE) + align(OBJECT_HEADER + (long) values.size() * REFERENCE);
+        for (String value : values) {
+            size += sizeOf(value);
+        }
+        return size;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    /**
+     * 可选值相同但valueType不同的列表不能共享
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class AllowableKey {
+        private final List<String> values;
+        private final String valueType;
+    }
+}
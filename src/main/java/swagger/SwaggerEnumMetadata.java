@@ -0,0 +1,40 @@
+package swagger;
+
+import com.fasterxml.classmate.ResolvedType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import springfox.documentation.service.AllowableListValues;
+
+import java.util.List;
+
+/**
+ * 枚举解析结果，每个枚举类只计算一次，由两个插件共享
+ *
+ * @since 2026/10/17
+ */
+@Getter
+@RequiredArgsConstructor
+public class SwaggerEnumMetadata {
+    private final Class<?> enumType;
+    /**
+     * 枚举键值描述，如：(1:启用;0:禁用)
+     */
+    private final String description;
+    /**
+     * 枚举code值列表（不可修改）
+     */
+    private final List<String> codes;
+    /**
+     * 与codes一一对应的message，未配置message字段时为枚举常量名
+     */
+    private final List<String> messages;
+    /**
+     * 枚举常量名
+     */
+    private final List<String> names;
+    private final AllowableListValues allowableValues;
+    /**
+     * 枚举泛型接口声明的code类型，未声明时为null
+     */
+    private final ResolvedType codeType;
+}
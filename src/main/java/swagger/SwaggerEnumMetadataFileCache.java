@@ -0,0 +1,49 @@
+package swagger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import swagger.core.EnumDefinitionStore;
+import swagger.core.EnumDefinitions;
+
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ * 启用枚举解析结果的磁盘缓存：初始化时读取缓存文件，上下文刷新（文档已生成）及关闭时写回新解析的枚举
+ *
+ * @since 2026/10/17
+ */
+public class SwaggerEnumMetadataFileCache implements InitializingBean, DisposableBean,
+        ApplicationListener<ContextRefreshedEvent> {
+    private final String directory;
+    private EnumDefinitionStore store;
+
+    /**
+     * @param directory 缓存文件所在目录
+     */
+    public SwaggerEnumMetadataFileCache(String directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        store = new EnumDefinitionStore(Paths.get(directory));
+        store.load();
+        EnumDefinitions.getInstance().setStore(store);
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        store.flush();
+    }
+
+    @Override
+    public void destroy() {
+        store.flush();
+        if (Objects.equals(EnumDefinitions.getInstance().getStore(), store)) {
+            EnumDefinitions.getInstance().setStore(null);
+        }
+    }
+}
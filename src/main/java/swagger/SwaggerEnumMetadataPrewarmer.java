@@ -0,0 +1,107 @@
+package swagger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.ClassUtils;
+import swagger.core.EnumClassScanner;
+import swagger.core.EnumDefinitions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 启动时在独立的ForkJoin线程池中扫描basePackages下的枚举并预先计算元数据，
+ * 与上下文其余部分的初始化并行，springfox/springdoc扫描时只需查缓存
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+public class SwaggerEnumMetadataPrewarmer implements InitializingBean, DisposableBean, BeanClassLoaderAware {
+    private static final boolean SPRINGFOX_PRESENT = ClassUtils.isPresent(
+            "springfox.documentation.service.AllowableListValues", SwaggerEnumMetadataPrewarmer.class.getClassLoader());
+
+    private final String[] basePackages;
+    private final int parallelism;
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+    private ForkJoinPool pool;
+
+    /**
+     * @param basePackages 扫描的包
+     * @param parallelism  线程数，小于1时为CPU核数-1
+     */
+    public SwaggerEnumMetadataPrewarmer(String[] basePackages, int parallelism) {
+        this.basePackages = basePackages;
+        this.parallelism = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("swagger-enum-prewarm-" + threadIndex.incrementAndGet());
+            return thread;
+        }, null, false);
+        pool.execute(() -> {
+            try {
+                prewarm();
+            } catch (RuntimeException ex) {
+                log.warn("Unable to prewarm swagger enums in {}", Arrays.toString(basePackages), ex);
+            } finally {
+                pool.shutdown();
+            }
+        });
+    }
+
+    private void prewarm() {
+        long start = System.nanoTime();
+        EnumDefinitions definitions = EnumDefinitions.getInstance();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (String className : EnumClassScanner.scan(basePackages, classLoader, false)) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                try {
+                    Class<?> enumType = ClassUtils.forName(className, classLoader);
+                    definitions.get(enumType);
+                    if (SPRINGFOX_PRESENT) {
+                        SpringfoxMetadata.prewarm(enumType);
+                    }
+                } catch (Throwable ex) {
+                    log.debug("Unable to prewarm swagger enum {}", className, ex);
+                }
+            }));
+        }
+        // 在工作线程内invokeAll，等待期间当前线程也参与执行，parallelism为1时同样不会阻塞
+        ForkJoinTask.invokeAll(tasks);
+        log.debug("Prewarmed {} swagger enums in {} ms",
+                tasks.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 隔离对springfox类型的引用，只使用springdoc时不会加载
+     */
+    private static final class SpringfoxMetadata {
+        static void prewarm(Class<?> enumType) {
+            SwaggerEnumMetadataRegistry.getInstance().get(enumType);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+}
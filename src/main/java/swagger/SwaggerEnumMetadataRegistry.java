@@ -0,0 +1,85 @@
+package swagger;
+
+import com.fasterxml.classmate.TypeResolver;
+import springfox.documentation.service.AllowableListValues;
+import swagger.core.EnumDefinition;
+import swagger.core.EnumDefinitions;
+import swagger.metrics.SwaggerEnumOperation;
+import swagger.metrics.SwaggerEnumRecorders;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 枚举元数据缓存，以枚举类为key（基于ClassValue，不阻止类加载器卸载）。
+ * 在框架无关的EnumDefinition基础上补充springfox所需的可选值与classmate类型
+ *
+ * @since 2026/10/17
+ */
+public class SwaggerEnumMetadataRegistry {
+    private static final SwaggerEnumMetadataRegistry INSTANCE =
+            new SwaggerEnumMetadataRegistry(new TypeResolver(), EnumDefinitions.getInstance());
+
+    private final TypeResolver resolver;
+    private final EnumDefinitions definitions;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final ClassValue<SwaggerEnumMetadata> metadata = new ClassValue<SwaggerEnumMetadata>() {
+        @Override
+        protected SwaggerEnumMetadata computeValue(Class<?> type) {
+            misses.increment();
+            // 先取解析结果，其耗时单独记为DEFINITION
+            EnumDefinition definition = definitions.get(type);
+            long start = SwaggerEnumRecorders.start();
+            SwaggerEnumMetadata created = create(type, definition);
+            SwaggerEnumRecorders.record(SwaggerEnumOperation.METADATA, type, start, definition.getCodes().size(),
+                    created.getDescription(), null);
+            return created;
+        }
+    };
+
+    /**
+     * @param resolver 解析器，使用独立的枚举解析缓存
+     */
+    public SwaggerEnumMetadataRegistry(TypeResolver resolver) {
+        this(resolver, new EnumDefinitions());
+    }
+
+    public SwaggerEnumMetadataRegistry(TypeResolver resolver, EnumDefinitions definitions) {
+        this.resolver = resolver;
+        this.definitions = definitions;
+    }
+
+    public static SwaggerEnumMetadataRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param enumType 枚举类
+     * @return 枚举元数据
+     */
+    public SwaggerEnumMetadata get(Class<?> enumType) {
+        lookups.increment();
+        return metadata.get(enumType);
+    }
+
+    public long getHitCount() {
+        return Math.max(0, lookups.sum() - misses.sum());
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private SwaggerEnumMetadata create(Class<?> enumType, EnumDefinition definition) {
+        SwaggerEnumInterner interner = SwaggerEnumInterner.getInstance();
+        return new SwaggerEnumMetadata(
+                enumType,
+                interner.intern(definition.getDescription()),
+                interner.intern(definition.getCodes()),
+                interner.intern(definition.getMessages()),
+                interner.intern(definition.getNames()),
+                (AllowableListValues) interner.intern(new AllowableListValues(definition.getCodes(), "LIST")),
+                Objects.isNull(definition.getCodeType()) ? null : resolver.resolve(definition.getCodeType()));
+    }
+}
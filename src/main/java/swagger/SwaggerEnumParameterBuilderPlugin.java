@@ -4,16 +4,12 @@ import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
 import io.swagger.annotations.ApiModelProperty;
 import io.swagger.annotations.ApiParam;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
-import org.springframework.util.CollectionUtils;
-import org.springframework.util.ReflectionUtils;
 import springfox.documentation.builders.ModelSpecificationBuilder;
 import springfox.documentation.schema.ModelSpecification;
 import springfox.documentation.schema.ScalarType;
 import springfox.documentation.schema.ScalarTypes;
-import springfox.documentation.service.AllowableListValues;
 import springfox.documentation.service.AllowableValues;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.schema.EnumTypeDeterminer;
@@ -21,43 +17,68 @@ import springfox.documentation.spi.service.ExpandedParameterBuilderPlugin;
 import springfox.documentation.spi.service.contexts.ParameterExpansionContext;
 import springfox.documentation.spring.web.DescriptionResolver;
 import springfox.documentation.swagger.common.SwaggerPluginSupport;
-import springfox.documentation.swagger.schema.ApiModelProperties;
-import swagger.annotation.SwaggerEnum;
+import swagger.metrics.SwaggerEnumOperation;
+import swagger.metrics.SwaggerEnumRecorders;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 import static springfox.documentation.swagger.common.SwaggerPluginSupport.OAS_PLUGIN_ORDER;
 
 /**
  * @author wangsp
  * @since 2022/5/24
  */
-@RequiredArgsConstructor
 @Slf4j
 @Order(SwaggerEnumParameterBuilderPlugin.ENUM_PLUGIN_ORDER)
 public class SwaggerEnumParameterBuilderPlugin extends SwaggerEnumParser implements ExpandedParameterBuilderPlugin {
-    private final TypeResolver resolver;
     private final DescriptionResolver descriptions;
     private final EnumTypeDeterminer enumTypeDeterminer;
+    private final SwaggerEnumPluginOptions options;
     public static final int ENUM_PLUGIN_ORDER = OAS_PLUGIN_ORDER + 2;
 
+    /**
+     * @param resolver 不再使用（code类型取自枚举元数据缓存），保留参数以兼容已有的构造调用
+     */
+    public SwaggerEnumParameterBuilderPlugin(TypeResolver resolver, DescriptionResolver descriptions,
+                                             EnumTypeDeterminer enumTypeDeterminer, SwaggerEnumPluginOptions options) {
+        this.descriptions = descriptions;
+        this.enumTypeDeterminer = enumTypeDeterminer;
+        this.options = options;
+    }
+
+    /**
+     * 兼容自行声明插件Bean的写法，使用默认选项
+     */
+    public SwaggerEnumParameterBuilderPlugin(TypeResolver resolver, DescriptionResolver descriptions,
+                                             EnumTypeDeterminer enumTypeDeterminer) {
+        this(resolver, descriptions, enumTypeDeterminer, new SwaggerEnumPluginOptions());
+    }
+
     @Override
     public void apply(ParameterExpansionContext context) {
+        long start = SwaggerEnumRecorders.start();
         Optional<ApiModelProperty> apiModelPropertyOptional = context.findAnnotation(ApiModelProperty.class);
-        apiModelPropertyOptional.ifPresent(apiModelProperty -> fromApiModelProperty(context, apiModelProperty));
+        String description = apiModelPropertyOptional
+                .map(apiModelProperty -> fromApiModelProperty(context, apiModelProperty))
+                .orElse(null);
         Optional<ApiParam> apiParamOptional = context.findAnnotation(ApiParam.class);
-        apiParamOptional.ifPresent(apiParam -> fromApiParam(context, apiParam));
+        description = apiParamOptional.map(apiParam -> fromApiParam(context, apiParam)).orElse(description);
+        if (start != SwaggerEnumRecorders.DISABLED) {
+            Class<?> erasedType = context.getFieldType().getErasedType();
+            boolean isEnum = enumTypeDeterminer.isEnum(erasedType);
+            // 两个注解都不存在时插件不生成描述
+            SwaggerEnumRecorders.record(SwaggerEnumOperation.PARAMETER_APPLY, isEnum ? erasedType : null, start,
+                    isEnum ? getEnumMetadata(erasedType).getCodes().size() : 0, isEnum ? description : null, null);
+        }
     }
 
-    private void fromApiModelProperty(
+    /**
+     * @return 写入参数的描述
+     */
+    private String fromApiModelProperty(
             ParameterExpansionContext context,
             ApiModelProperty apiModelProperty) {
         String allowableProperty = ofNullable(apiModelProperty.allowableValues())
@@ -67,9 +88,9 @@ public class SwaggerEnumParameterBuilderPlugin extends SwaggerEnumParser impleme
                 ofNullable(allowableProperty),
                 erasedType);
 
-        String resolve = descriptions.resolve(apiModelProperty.value());
-        resolve = resolveEnumDescription(erasedType, resolve);
-        ResolvedType resolved = enumTypeDeterminer.isEnum(erasedType) ? getBodyEnumResolvedType(resolver, erasedType) : null;
+        String description = descriptions.resolve(apiModelProperty.value());
+        String resolve = resolveEnumDescription(erasedType, description);
+        ResolvedType resolved = enumTypeDeterminer.isEnum(erasedType) ? getEnumMetadata(erasedType).getCodeType() : null;
         ModelSpecification modelSpecification = null;
         if (Objects.nonNull(resolved)) {
             modelSpecification = new ModelSpecificationBuilder()
@@ -84,22 +105,44 @@ public class SwaggerEnumParameterBuilderPlugin extends SwaggerEnumParser impleme
                 .order(ENUM_PLUGIN_ORDER)
                 .build();
 
+        if (isComponentSchema(erasedType)) {
+            applyComponentSchema(context, description, erasedType);
+            return resolve;
+        }
         context.getRequestParameterBuilder()
                 .description(resolve)
                 .precedence(ENUM_PLUGIN_ORDER)
                 .query(q -> q.enumerationFacet(e -> e.allowedValues(allowable))
                         .model(mb -> mb.copyOf(modelSpecificationFinal)));
+        return resolve;
+    }
+
+    private boolean isComponentSchema(Class<?> erasedType) {
+        return options.isComponentSchemas() && enumTypeDeterminer.isEnum(erasedType);
+    }
+
+    /**
+     * 只保留参数自身描述，键值描述与可选值由共享的枚举schema提供
+     */
+    private void applyComponentSchema(ParameterExpansionContext context, String description, Class<?> erasedType) {
+        context.getRequestParameterBuilder()
+                .description(description)
+                .precedence(ENUM_PLUGIN_ORDER)
+                .extensions(SwaggerEnumComponentSchemaFilter.enumExtensions(erasedType));
     }
 
 
     private String resolveEnumDescription(Class<?> erasedType, String resolve) {
         if (Enum.class.isAssignableFrom(erasedType)) {
-            resolve = resolve + parseSwaggerEnumAnnotation(erasedType);
+            resolve = SwaggerEnumInterner.getInstance().concat(resolve, parseSwaggerEnumAnnotation(erasedType));
         }
         return resolve;
     }
 
-    private void fromApiParam(
+    /**
+     * @return 写入参数的描述
+     */
+    private String fromApiParam(
             ParameterExpansionContext context,
             ApiParam apiParam) {
         String allowableProperty =
@@ -107,8 +150,8 @@ public class SwaggerEnumParameterBuilderPlugin extends SwaggerEnumParser impleme
                         .filter(((Predicate<String>) String::isEmpty).negate())
                         .orElse(null);
         Class<?> erasedType = context.getFieldType().getErasedType();
-        String resolve = descriptions.resolve(apiParam.value());
-        resolve = resolveEnumDescription(erasedType, resolve);
+        String description = descriptions.resolve(apiParam.value());
+        String resolve = resolveEnumDescription(erasedType, description);
 
         AllowableValues allowable = allowableValues(
                 ofNullable(allowableProperty),
@@ -119,10 +162,15 @@ public class SwaggerEnumParameterBuilderPlugin extends SwaggerEnumParser impleme
                 .order(ENUM_PLUGIN_ORDER)
                 .build();
 
+        if (isComponentSchema(erasedType)) {
+            applyComponentSchema(context, description, erasedType);
+            return resolve;
+        }
         context.getRequestParameterBuilder()
                 .description(resolve)
                 .precedence(ENUM_PLUGIN_ORDER)
                 .query(q -> q.enumerationFacet(e -> e.allowedValues(allowable)));
+        return resolve;
     }
 
     private AllowableValues allowableValues(
@@ -131,33 +179,13 @@ public class SwaggerEnumParameterBuilderPlugin extends SwaggerEnumParser impleme
 
         AllowableValues allowable = null;
         if (enumTypeDeterminer.isEnum(fieldType)) {
-            allowable = new AllowableListValues(getEnumValues(fieldType), "LIST");
+            allowable = getEnumMetadata(fieldType).getAllowableValues();
         } else if (optionalAllowable.isPresent()) {
-            allowable = ApiModelProperties.allowableValueFromString(optionalAllowable.get());
+            allowable = AllowableValuesParser.parseShared(optionalAllowable.get());
         }
         return allowable;
     }
 
-    private List<String> getEnumValues(final Class<?> subject) {
-        SwaggerEnum annotation = subject.getAnnotation(SwaggerEnum.class);
-        if (Objects.nonNull(annotation)) {
-            String codeName = annotation.codeName();
-            List<String> strings = ofNullable(ReflectionUtils.findField(subject, codeName))
-                    .map(field ->
-                            Stream.of(subject.getEnumConstants()).map((Function<Object, String>) mapper -> {
-                                ReflectionUtils.makeAccessible(field);
-                                return ReflectionUtils.getField(field, mapper).toString();
-                            }).collect(toList())
-                    ).orElse(new ArrayList<>());
-            if (!CollectionUtils.isEmpty(strings)) {
-                return strings;
-            }
-        }
-        return Stream.of(subject.getEnumConstants())
-                .map((Function<Object, String>) Object::toString)
-                .collect(toList());
-    }
-
     @Override
     public boolean supports(DocumentationType documentationType) {
         return SwaggerPluginSupport.pluginDoesApply(documentationType);
@@ -2,23 +2,17 @@ package swagger;
 
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
-import org.springframework.util.ReflectionUtils;
-import org.springframework.util.StringUtils;
-import swagger.annotation.SwaggerEnum;
+import swagger.core.EnumDefinitionParser;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * @author wangsp
  * @since 2022/5/24
  */
 public class SwaggerEnumParser {
+    private static final EnumDefinitionParser DEFINITION_PARSER = new EnumDefinitionParser();
 
 
     /**
@@ -26,21 +20,15 @@ public class SwaggerEnumParser {
      * @return description
      */
     public String parseSwaggerEnumAnnotation(Class<?> rawType) {
-        SwaggerEnum enumAnn = rawType.getAnnotation(SwaggerEnum.class);
-        Field codeField = null;
-        Field messageField = null;
-        if (enumAnn != null) {
-            String codeName = enumAnn.codeName();
-            String messageName = enumAnn.messageName();
-            if (StringUtils.isEmpty(codeName) || StringUtils.isEmpty(messageName)) {
-                return "";
-            }
-            codeField = ReflectionUtils.findField(rawType, codeName);
-            messageField = ReflectionUtils.findField(rawType, messageName);
+        return getEnumMetadata(rawType).getDescription();
+    }
 
-        }
-        String displayValue = resolverEnumConstants(rawType, codeField, messageField);
-        return displayValue;
+    /**
+     * @param rawType 枚举类
+     * @return 缓存的枚举元数据
+     */
+    protected SwaggerEnumMetadata getEnumMetadata(Class<?> rawType) {
+        return SwaggerEnumMetadataRegistry.getInstance().get(rawType);
     }
 
     /**
@@ -50,49 +38,24 @@ public class SwaggerEnumParser {
      * @param codeField
      * @param messageField
      * @return
+     * @see EnumDefinitionParser#resolveConstants(Class, Field, Field)
      */
     public String resolverEnumConstants(Class<?> rawType, Field codeField, Field messageField) {
-        String displayValue;
-        Enum[] enumConstants = (Enum[]) rawType.getEnumConstants();
-        if (Objects.isNull(codeField) && Objects.isNull(messageField)) {
-            // default enum
-            displayValue = Stream.of(enumConstants)
-                    .map(e -> e.ordinal() + ":" + e.toString())
-                    .collect(Collectors.joining(";", ",(", ")"));
-        } else if (Objects.nonNull(codeField) && Objects.isNull(messageField)) {
-            displayValue = Stream.of(enumConstants)
-                    .map(e -> {
-                        ReflectionUtils.makeAccessible(codeField);
-                        Object code = ReflectionUtils.getField(codeField, e);
-                        return code + ":" + e.toString();
-                    })
-                    .collect(Collectors.joining(";", "(", ")"));
-        } else {
-            displayValue = Stream.of(enumConstants)
-                    .map(e -> {
-                        ReflectionUtils.makeAccessible(codeField);
-                        ReflectionUtils.makeAccessible(messageField);
-                        Object code = ReflectionUtils.getField(codeField, e);
-                        Object message = ReflectionUtils.getField(messageField, e);
-                        return code + ":" + message;
-                    })
-                    .collect(Collectors.joining(";", "(", ")"));
-        }
-        return displayValue;
+        return DEFINITION_PARSER.resolveConstants(rawType, codeField, messageField);
     }
 
+    /**
+     * 枚举实现的泛型接口中声明的code类型，结果按枚举类缓存
+     *
+     * @param resolver   非枚举类型时使用的解析器
+     * @param erasedType 枚举类
+     * @return code类型
+     */
     public ResolvedType getBodyEnumResolvedType(TypeResolver resolver, Class<?> erasedType) {
-        ResolvedType resolved = null;
-        Type[] genericInterfaces = erasedType.getGenericInterfaces();
-        if (genericInterfaces.length < 1) {
-            return null;
-        }
-        ParameterizedType parameterizedType = (ParameterizedType) genericInterfaces[0];
-        Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-        if (actualTypeArguments.length > 1) {
-            Type actualTypeArgument = actualTypeArguments[1];
-            resolved = Optional.of(resolver.resolve(actualTypeArgument)).orElse(null);
+        if (!Enum.class.isAssignableFrom(erasedType)) {
+            Class<?> codeType = DEFINITION_PARSER.resolveCodeType(erasedType);
+            return Objects.isNull(codeType) ? null : resolver.resolve(codeType);
         }
-        return resolved;
+        return getEnumMetadata(erasedType).getCodeType();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package swagger;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 插件选项，由@EnableSwaggerEnumPlugin的属性填充
+ *
+ * @since 2026/10/17
+ */
+@Getter
+@Setter
+public class SwaggerEnumPluginOptions {
+    /**
+     * 枚举以components/schemas共享定义，属性、参数通过$ref引用，不再逐个内联键值描述
+     */
+    private boolean componentSchemas;
+}
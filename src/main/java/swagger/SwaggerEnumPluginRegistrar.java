@@ -0,0 +1,213 @@
+package swagger;
+
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import swagger.annotation.EnableSwaggerEnumPlugin;
+import swagger.jackson.SwaggerEnumModule;
+import swagger.metrics.SwaggerEnumMicrometerMetrics;
+import swagger.springdoc.SwaggerEnumParameterCustomizer;
+import swagger.springdoc.SwaggerEnumPropertyCustomizer;
+
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * 根据@EnableSwaggerEnumPlugin的属性注册可选组件，按类路径注册springfox插件或springdoc定制器
+ *
+ * @since 2026/10/17
+ */
+public class SwaggerEnumPluginRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+    static final String OPTIONS_BEAN_NAME = "swaggerEnumPluginOptions";
+    static final String PREWARMER_BEAN_NAME = "swaggerEnumMetadataPrewarmer";
+    static final String COMPONENT_SCHEMA_FILTER_BEAN_NAME = "swaggerEnumComponentSchemaFilter";
+    static final String ASYNC_DOCUMENTATION_BEAN_NAME = "swaggerEnumAsyncDocumentation";
+    static final String READINESS_FILTER_BEAN_NAME = "swaggerEnumDocumentationReadinessFilter";
+    static final String HEALTH_INDICATOR_BEAN_NAME = "swaggerEnumDocumentationHealthIndicator";
+    static final String DICTIONARY_CONTROLLER_BEAN_NAME = "swaggerEnumDictionaryController";
+    static final String JACKSON_MODULE_BEAN_NAME = "swaggerEnumJacksonModule";
+    static final String WEB_MVC_CONFIGURER_BEAN_NAME = "swaggerEnumWebMvcConfigurer";
+    static final String FILE_CACHE_BEAN_NAME = "swaggerEnumMetadataFileCache";
+    static final String MICROMETER_METRICS_BEAN_NAME = "swaggerEnumMicrometerMetrics";
+    static final String JFR_RECORDER_BEAN_NAME = "swaggerEnumJfrRecorder";
+    /**
+     * springfox DocumentationPluginsBootstrapper读取的自动启动开关
+     */
+    static final String AUTO_STARTUP_PROPERTY = "springfox.documentation.auto-startup";
+    private static final String PROPERTY_SOURCE_NAME = "swaggerEnumPlugin";
+    private static final String HEALTH_INDICATOR_CLASS = "org.springframework.boot.actuate.health.HealthIndicator";
+    private static final String SPRINGFOX_PLUGIN_CLASS = "springfox.documentation.spi.schema.ModelPropertyBuilderPlugin";
+    private static final String METER_REGISTRY_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+    private static final String FLIGHT_RECORDER_LISTENER_CLASS = "jdk.jfr.FlightRecorderListener";
+    private static final String JACKSON_MODULE_CLASS = "com.fasterxml.jackson.databind.Module";
+    private static final String DISPATCHER_SERVLET_CLASS = "org.springframework.web.servlet.DispatcherServlet";
+    private static final String SPRINGDOC_CUSTOMIZER_CLASS = "org.springdoc.core.customizers.PropertyCustomizer";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        AnnotationAttributes attributes = AnnotationAttributes.fromMap(
+                importingClassMetadata.getAnnotationAttributes(EnableSwaggerEnumPlugin.class.getName()));
+        if (Objects.isNull(attributes) || registry.containsBeanDefinition(OPTIONS_BEAN_NAME)) {
+            return;
+        }
+        boolean componentSchemas = attributes.getBoolean("componentSchemas");
+        registry.registerBeanDefinition(OPTIONS_BEAN_NAME,
+                BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumPluginOptions.class)
+                        .addPropertyValue("componentSchemas", componentSchemas)
+                        .getBeanDefinition());
+        String cacheDirectory = environment.resolvePlaceholders(attributes.getString("cacheDirectory"));
+        if (StringUtils.hasText(cacheDirectory)) {
+            registry.registerBeanDefinition(FILE_CACHE_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumMetadataFileCache.class)
+                            .addConstructorArgValue(cacheDirectory)
+                            .getBeanDefinition());
+        }
+        String[] basePackages = attributes.getStringArray("basePackages");
+        if (basePackages.length > 0) {
+            BeanDefinitionBuilder prewarmer = BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumMetadataPrewarmer.class)
+                    .addConstructorArgValue(basePackages)
+                    .addConstructorArgValue(attributes.getNumber("prewarmParallelism").intValue());
+            if (StringUtils.hasText(cacheDirectory)) {
+                // 预解析前先装载磁盘缓存
+                prewarmer.addDependsOn(FILE_CACHE_BEAN_NAME);
+            }
+            registry.registerBeanDefinition(PREWARMER_BEAN_NAME, prewarmer.getBeanDefinition());
+        }
+        ClassLoader classLoader = getClass().getClassLoader();
+        if (attributes.getBoolean("enumDictionary") && ClassUtils.isPresent(DISPATCHER_SERVLET_CLASS, classLoader)) {
+            // 未配置basePackages时扫描标注@EnableSwaggerEnumPlugin的类所在的包
+            String[] dictionaryPackages = basePackages.length > 0 ? basePackages
+                    : new String[]{ClassUtils.getPackageName(importingClassMetadata.getClassName())};
+            registry.registerBeanDefinition(DICTIONARY_CONTROLLER_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumDictionaryController.class)
+                            .addConstructorArgValue(dictionaryPackages)
+                            .getBeanDefinition());
+        }
+        if (attributes.getBoolean("metrics")) {
+            registerMetrics(registry, classLoader);
+        }
+        if (attributes.getBoolean("codeConverter") && ClassUtils.isPresent(DISPATCHER_SERVLET_CLASS, classLoader)) {
+            registry.registerBeanDefinition(WEB_MVC_CONFIGURER_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumWebMvcConfigurer.class).getBeanDefinition());
+        }
+        if (attributes.getBoolean("jacksonModule") && ClassUtils.isPresent(JACKSON_MODULE_CLASS, classLoader)) {
+            // spring boot的JacksonAutoConfiguration自动注册容器中的Module
+            registry.registerBeanDefinition(JACKSON_MODULE_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumModule.class).getBeanDefinition());
+        }
+        if (ClassUtils.isPresent(SPRINGDOC_CUSTOMIZER_CLASS, classLoader)) {
+            registerSpringdocCustomizers(registry);
+        }
+        if (ClassUtils.isPresent(SPRINGFOX_PLUGIN_CLASS, classLoader)) {
+            registerSpringfoxPlugins(registry, attributes, componentSchemas);
+        }
+    }
+
+    /**
+     * 类路径中没有Micrometer、运行时没有jdk.jfr时不注册，插件埋点保持空操作
+     */
+    private void registerMetrics(BeanDefinitionRegistry registry, ClassLoader classLoader) {
+        if (ClassUtils.isPresent(METER_REGISTRY_CLASS, classLoader)) {
+            registry.registerBeanDefinition(MICROMETER_METRICS_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumMicrometerMetrics.class)
+                            .setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR)
+                            .getBeanDefinition());
+        }
+        if (ClassUtils.isPresent(FLIGHT_RECORDER_LISTENER_CLASS, classLoader)) {
+            // 按类名注册，jdk.jfr不存在时不加载SwaggerEnumJfrRecorder
+            registry.registerBeanDefinition(JFR_RECORDER_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition("swagger.metrics.jfr.SwaggerEnumJfrRecorder")
+                            .getBeanDefinition());
+        }
+    }
+
+    /**
+     * springdoc-openapi自动收集容器中的PropertyCustomizer与ParameterCustomizer
+     */
+    private void registerSpringdocCustomizers(BeanDefinitionRegistry registry) {
+        registry.registerBeanDefinition(SwaggerEnumPropertyCustomizer.class.getName(),
+                BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumPropertyCustomizer.class).getBeanDefinition());
+        registry.registerBeanDefinition(SwaggerEnumParameterCustomizer.class.getName(),
+                BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumParameterCustomizer.class).getBeanDefinition());
+    }
+
+    private void registerSpringfoxPlugins(BeanDefinitionRegistry registry, AnnotationAttributes attributes,
+                                          boolean componentSchemas) {
+        registry.registerBeanDefinition(SwaggerEnumConverterPlugin.class.getName(),
+                BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumConverterPlugin.class)
+                        .setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR)
+                        .getBeanDefinition());
+        registry.registerBeanDefinition(SwaggerEnumParameterBuilderPlugin.class.getName(),
+                BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumParameterBuilderPlugin.class)
+                        .setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR)
+                        .getBeanDefinition());
+        if (componentSchemas) {
+            registry.registerBeanDefinition(COMPONENT_SCHEMA_FILTER_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumComponentSchemaFilter.class)
+                            .getBeanDefinition());
+        }
+        if (!attributes.getBoolean("asyncDocumentation") || !(environment instanceof ConfigurableEnvironment)) {
+            return;
+        }
+        if (disableSpringfoxAutoStartup()) {
+            registerAsyncDocumentation(registry, attributes.getBoolean("virtualThreads"));
+        }
+    }
+
+    /**
+     * 关闭springfox自带的启动，由后台构建接管
+     *
+     * @return 用户原本的自动启动配置，已关闭时插件同样不自动启动
+     */
+    private boolean disableSpringfoxAutoStartup() {
+        boolean autoStartup = Boolean.parseBoolean(environment.getProperty(AUTO_STARTUP_PROPERTY, "true"));
+        ((ConfigurableEnvironment) environment).getPropertySources().addFirst(new MapPropertySource(
+                PROPERTY_SOURCE_NAME, Collections.<String, Object>singletonMap(AUTO_STARTUP_PROPERTY, "false")));
+        return autoStartup;
+    }
+
+    private void registerAsyncDocumentation(BeanDefinitionRegistry registry, boolean virtualThreads) {
+        registry.registerBeanDefinition(ASYNC_DOCUMENTATION_BEAN_NAME,
+                BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumAsyncDocumentation.class)
+                        .setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR)
+                        .addPropertyValue("virtualThreads", virtualThreads)
+                        .getBeanDefinition());
+        ClassLoader classLoader = getClass().getClassLoader();
+        if (ClassUtils.isPresent(DISPATCHER_SERVLET_CLASS, classLoader)) {
+            // 文档接口、swagger-resources及UI均在生成完成后才放行；WebFlux下没有javax.servlet，不注册
+            String uiBaseUrl = StringUtils.trimTrailingCharacter(
+                    environment.getProperty("springfox.documentation.swagger-ui.base-url", ""), '/');
+            registry.registerBeanDefinition(READINESS_FILTER_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumDocumentationReadinessFilter.class)
+                            .addConstructorArgReference(ASYNC_DOCUMENTATION_BEAN_NAME)
+                            .addConstructorArgValue(new String[]{
+                                    environment.getProperty("springfox.documentation.open-api.v3.path", "/v3/api-docs"),
+                                    environment.getProperty("springfox.documentation.swagger.v2.path", "/v2/api-docs"),
+                                    uiBaseUrl + "/swagger-resources",
+                                    uiBaseUrl + "/swagger-ui"})
+                            .getBeanDefinition());
+        }
+        if (ClassUtils.isPresent(HEALTH_INDICATOR_CLASS, classLoader)) {
+            registry.registerBeanDefinition(HEALTH_INDICATOR_BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(SwaggerEnumDocumentationHealthIndicator.class)
+                            .addConstructorArgReference(ASYNC_DOCUMENTATION_BEAN_NAME)
+                            .getBeanDefinition());
+        }
+    }
+}
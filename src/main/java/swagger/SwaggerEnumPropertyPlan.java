@@ -0,0 +1,88 @@
+package swagger;
+
+import com.fasterxml.classmate.ResolvedType;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import springfox.documentation.builders.ModelPropertyBuilder;
+import springfox.documentation.builders.PropertySpecificationBuilder;
+import springfox.documentation.schema.ModelSpecification;
+import springfox.documentation.service.AllowableValues;
+import springfox.documentation.service.VendorExtension;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 枚举属性的计算结果，按所属类型、属性名及枚举类缓存，多个Docket分组扫描同一DTO时直接回放到两个builder
+ *
+ * @since 2026/10/17
+ */
+@RequiredArgsConstructor
+final class SwaggerEnumPropertyPlan {
+    /**
+     * 计算时属性已有的描述（由其它插件写入），回放前校验一致
+     */
+    private final String baseDescription;
+    private final String displayValue;
+    private final ModelSpecification modelSpecification;
+    private final ResolvedType legacyType;
+    private final AllowableValues allowableValues;
+    private final List<VendorExtension> vendorExtensions;
+    private final boolean readOnly;
+    private final boolean hidden;
+    private final int position;
+    private final boolean required;
+    private final String example;
+
+    String getDisplayValue() {
+        return displayValue;
+    }
+
+    boolean matches(String baseDescription) {
+        return Objects.equals(this.baseDescription, baseDescription);
+    }
+
+    /**
+     * 只缓存标量类型：引用类型的ModelSpecification与分组的命名规则相关
+     */
+    boolean isCacheable() {
+        return Objects.isNull(modelSpecification) || modelSpecification.getScalar().isPresent();
+    }
+
+    void apply(PropertySpecificationBuilder specificationBuilder, ModelPropertyBuilder builder) {
+        specificationBuilder
+                .type(modelSpecification)
+                .readOnly(readOnly)
+                .isHidden(hidden)
+                .position(position)
+                .required(required)
+                .example(example);
+        if (Objects.nonNull(vendorExtensions)) {
+            // 键值描述与可选值由共享的枚举schema提供
+            specificationBuilder.description(baseDescription)
+                    .vendorExtensions(vendorExtensions);
+        } else {
+            specificationBuilder.description(displayValue)
+                    .enumerationFacet(e -> e.allowedValues(allowableValues));
+        }
+
+        builder.description(displayValue)
+                .type(legacyType)
+                .allowableValues(allowableValues)
+                .required(required)
+                .readOnly(readOnly)
+                .isHidden(hidden)
+                .position(position)
+                .example(example);
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    static final class Key {
+        private final Type owner;
+        private final boolean returnType;
+        private final String property;
+        private final Class<?> enumType;
+    }
+}
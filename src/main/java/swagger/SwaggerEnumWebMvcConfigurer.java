@@ -0,0 +1,18 @@
+package swagger;
+
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import swagger.core.SwaggerEnumConverterFactory;
+
+/**
+ * 请求参数按code绑定枚举，与文档中展示的可选值一致。后注册的转换器优先于spring默认的StringToEnumConverterFactory
+ *
+ * @since 2026/10/17
+ */
+public class SwaggerEnumWebMvcConfigurer implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverterFactory(new SwaggerEnumConverterFactory());
+    }
+}
@@ -3,13 +3,13 @@ package swagger.annotation;
 
 import org.springframework.context.annotation.Import;
 import org.springframework.stereotype.Component;
-import swagger.SwaggerEnumConverterPlugin;
-import swagger.SwaggerEnumParameterBuilderPlugin;
+import swagger.SwaggerEnumPluginRegistrar;
 
 import java.lang.annotation.*;
 
 /**
- * 开启swagger枚举展示键值配置
+ * 开启swagger枚举展示键值配置，类路径中存在springfox时注册springfox插件，
+ * 存在springdoc-openapi时注册springdoc定制器
  *
  * @Author: wangsp
  * @Date: 2021/5/8
@@ -17,7 +17,75 @@ import java.lang.annotation.*;
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
-@Import({SwaggerEnumConverterPlugin.class, SwaggerEnumParameterBuilderPlugin.class})
+@Import(SwaggerEnumPluginRegistrar.class)
 @Component
 public @interface EnableSwaggerEnumPlugin {
+
+    /**
+     * 配置后启动时扫描这些包下标注@SwaggerEnum或实现了接口的枚举，并在后台线程池中预先解析，
+     * 不配置则在springfox扫描到时才解析
+     * @return
+     */
+    String[] basePackages() default {};
+
+    /**
+     * 预解析线程数，小于1时为CPU核数-1
+     * @return
+     */
+    int prewarmParallelism() default 0;
+
+    /**
+     * 开启后每个枚举只在components/schemas中定义一次（含code、message及x-enum-varnames），
+     * OAS3文档中的属性与参数通过$ref引用，显著减小大量枚举字段时的文档体积（仅springfox）
+     * @return
+     */
+    boolean componentSchemas() default false;
+
+    /**
+     * 开启后文档在ApplicationReadyEvent之后于后台线程中生成，生成完成前文档接口返回503，
+     * 引入actuator时提供swaggerEnumDocumentation健康检查（仅springfox）
+     * @return
+     */
+    boolean asyncDocumentation() default false;
+
+    /**
+     * 后台生成文档时优先使用虚拟线程（Java 21及以上），不支持时使用普通线程
+     * @return
+     */
+    boolean virtualThreads() default false;
+
+    /**
+     * 开启后提供枚举字典接口（默认/swagger-enums，可通过swagger.enum.dictionary.path修改），
+     * 返回basePackages（未配置时为当前类所在包）下全部@SwaggerEnum枚举的code-message映射，/swagger-enums/{枚举名}返回单个枚举
+     * @return
+     */
+    boolean enumDictionary() default false;
+
+    /**
+     * 开启后注册SwaggerEnumModule：@SwaggerEnum枚举按codeName字段序列化为code，并按预计算的code表反序列化（兼容常量名），
+     * 无需再引入enum-jackson-boot-starter
+     * @return
+     */
+    boolean jacksonModule() default false;
+
+    /**
+     * Spring MVC请求参数（query、path、form）按code绑定@SwaggerEnum枚举，未匹配code时按常量名，
+     * 与文档中的可选值一致；关闭后使用spring默认的按常量名绑定
+     * @return
+     */
+    boolean codeConverter() default true;
+
+    /**
+     * 枚举解析结果的磁盘缓存目录，支持${...}占位符，为空时不启用。以枚举类名及类文件的MD5为key，
+     * 类文件未变化的枚举重启后直接读取缓存，变化后重新解析
+     * @return
+     */
+    String cacheDirectory() default "";
+
+    /**
+     * 插件耗时统计：容器中存在MeterRegistry时输出swagger.enum.*指标，有进行中的JFR录制时输出swagger.enum.Operation事件，
+     * 两者都不存在时埋点为空操作
+     * @return
+     */
+    boolean metrics() default true;
 }
@@ -0,0 +1,59 @@
+package swagger.core;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import swagger.annotation.SwaggerEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按字节码元数据扫描包下的枚举类，不加载类
+ *
+ * @since 2026/10/17
+ */
+public final class EnumClassScanner {
+    private static final String ENUM_CLASS_NAME = Enum.class.getName();
+    private static final String SWAGGER_ENUM_ANNOTATION = SwaggerEnum.class.getName();
+
+    private EnumClassScanner() {
+    }
+
+    /**
+     * @param basePackages  扫描的包
+     * @param classLoader   读取类路径资源的类加载器
+     * @param annotatedOnly true时只返回标注@SwaggerEnum的枚举，否则同时包含实现了接口（如code/value泛型接口）的枚举
+     * @return 枚举类名
+     */
+    public static List<String> scan(String[] basePackages, ClassLoader classLoader, boolean annotatedOnly) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                // 枚举常量带方法体时枚举类为abstract，默认实现会将其排除
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter((reader, factory) -> isCandidateEnum(reader, annotatedOnly));
+        List<String> classNames = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                classNames.add(candidate.getBeanClassName());
+            }
+        }
+        return classNames;
+    }
+
+    private static boolean isCandidateEnum(MetadataReader reader, boolean annotatedOnly) {
+        ClassMetadata classMetadata = reader.getClassMetadata();
+        if (!ENUM_CLASS_NAME.equals(classMetadata.getSuperClassName())) {
+            return false;
+        }
+        return reader.getAnnotationMetadata().hasAnnotation(SWAGGER_ENUM_ANNOTATION)
+                || (!annotatedOnly && classMetadata.getInterfaceNames().length > 0);
+    }
+}
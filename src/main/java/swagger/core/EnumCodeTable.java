@@ -0,0 +1,295 @@
+package swagger.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 按code查找枚举常量的预计算表，以@SwaggerEnum的codeName字段为准：
+ * int类code取值在[0, {@value #MAX_DENSE_CODE})内时为数组下标直接查找，其余int类code使用开放寻址的int哈希表，
+ * 文本（字符串、数字及布尔的字面量）与常量名按字符数组查找。查找过程不分配对象，也不遍历values()
+ *
+ * @since 2026/10/17
+ */
+public final class EnumCodeTable<E extends Enum<E>> {
+    static final int MAX_DENSE_CODE = 1024;
+
+    private static final EnumDefinitionParser PARSER = new EnumDefinitionParser();
+    private static final ClassValue<Optional<EnumCodeTable<?>>> TABLES = new ClassValue<Optional<EnumCodeTable<?>>>() {
+        @Override
+        protected Optional<EnumCodeTable<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(create(type));
+        }
+    };
+
+    private final Class<E> enumType;
+    private final Object[] codes;
+    private final String[] texts;
+    /**
+     * 下标为code，仅int类code且取值较小时存在
+     */
+    private final E[] dense;
+    private final IntTable<E> byInt;
+    private final TextTable<E> byText;
+    private final TextTable<E> byName;
+
+    private EnumCodeTable(Class<E> enumType, Object[] codes) {
+        E[] constants = enumType.getEnumConstants();
+        String[] names = new String[constants.length];
+        this.enumType = enumType;
+        this.codes = codes;
+        this.texts = new String[codes.length];
+        for (int i = 0; i < constants.length; i++) {
+            texts[i] = String.valueOf(codes[i]);
+            names[i] = constants[i].name();
+        }
+        this.byText = new TextTable<>(texts, constants);
+        this.byName = new TextTable<>(names, constants);
+        int[] intCodes = toIntCodes(codes);
+        if (Objects.isNull(intCodes)) {
+            this.dense = null;
+            this.byInt = null;
+        } else if (Arrays.stream(intCodes).allMatch(code -> code >= 0 && code < MAX_DENSE_CODE)) {
+            this.dense = Arrays.copyOf(constants, Arrays.stream(intCodes).max().orElse(-1) + 1);
+            Arrays.fill(dense, null);
+            // 倒序写入，code重复时与其它查找方式一致取第一个常量
+            for (int i = constants.length - 1; i >= 0; i--) {
+                dense[intCodes[i]] = constants[i];
+            }
+            this.byInt = null;
+        } else {
+            this.dense = null;
+            this.byInt = new IntTable<>(intCodes, constants);
+        }
+    }
+
+    /**
+     * @param type 枚举类或带方法体的枚举常量类
+     * @return 查找表，非枚举或未配置code字段时为null
+     */
+    public static EnumCodeTable<?> of(Class<?> type) {
+        if (!type.isEnum()) {
+            if (!Enum.class.isAssignableFrom(type) || !type.getSuperclass().isEnum()) {
+                return null;
+            }
+            type = type.getSuperclass();
+        }
+        return TABLES.get(type).orElse(null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumCodeTable<?> create(Class<?> type) {
+        List<Object> codes = PARSER.resolveCodeValues(type);
+        return Objects.isNull(codes) ? null : new EnumCodeTable(type, codes.toArray());
+    }
+
+    private static int[] toIntCodes(Object[] codes) {
+        int[] intCodes = new int[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            Object code = codes[i];
+            if (!(code instanceof Integer || code instanceof Short || code instanceof Byte)) {
+                return null;
+            }
+            intCodes[i] = ((Number) code).intValue();
+        }
+        return intCodes;
+    }
+
+    public Class<E> getEnumType() {
+        return enumType;
+    }
+
+    /**
+     * @return 全部code均为Integer、Short或Byte
+     */
+    public boolean isIntCodes() {
+        return Objects.nonNull(dense) || Objects.nonNull(byInt);
+    }
+
+    /**
+     * @param constant 枚举常量
+     * @return code原始值
+     */
+    public Object code(Enum<?> constant) {
+        return codes[constant.ordinal()];
+    }
+
+    /**
+     * @param constant 枚举常量
+     * @return code的字符串形式
+     */
+    public String text(Enum<?> constant) {
+        return texts[constant.ordinal()];
+    }
+
+    /**
+     * @param code int类code
+     * @return 枚举常量，code不是int类或不存在时为null
+     */
+    public E fromInt(int code) {
+        if (Objects.nonNull(dense)) {
+            return code >= 0 && code < dense.length ? dense[code] : null;
+        }
+        return Objects.isNull(byInt) ? null : byInt.get(code);
+    }
+
+    /**
+     * @param text code的字符串形式
+     * @return 枚举常量，不存在时为null
+     */
+    public E fromText(String text) {
+        return byText.get(text);
+    }
+
+    public E fromText(char[] buffer, int offset, int length) {
+        return byText.get(buffer, offset, length);
+    }
+
+    /**
+     * @param name 枚举常量名
+     * @return 枚举常量，不存在时为null
+     */
+    public E fromName(String name) {
+        return byName.get(name);
+    }
+
+    public E fromName(char[] buffer, int offset, int length) {
+        return byName.get(buffer, offset, length);
+    }
+
+    /**
+     * 先按code再按常量名查找
+     *
+     * @param text code的字符串形式或常量名
+     * @return 枚举常量，不存在时为null
+     */
+    public E fromCodeOrName(String text) {
+        E constant = byText.get(text);
+        return Objects.nonNull(constant) ? constant : byName.get(text);
+    }
+
+    @Override
+    public String toString() {
+        return enumType.getName() + Arrays.toString(texts);
+    }
+
+    private static int tableSize(int entries) {
+        int size = Integer.highestOneBit(Math.max(entries, 1) * 2 - 1) << 1;
+        return Math.max(size, 2);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 开放寻址字符串表，哈希与String.hashCode一致，可直接用字符数组查找而不创建String
+     */
+    private static final class TextTable<E> {
+        private final String[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        TextTable(String[] keys, E[] values) {
+            int size = tableSize(keys.length);
+            this.keys = new String[size];
+            this.values = new Object[size];
+            this.mask = size - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int index = spread(keys[i].hashCode()) & mask;
+                while (Objects.nonNull(this.keys[index]) && !this.keys[index].equals(keys[i])) {
+                    index = (index + 1) & mask;
+                }
+                if (Objects.isNull(this.keys[index])) {
+                    this.keys[index] = keys[i];
+                    this.values[index] = values[i];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(String text) {
+            if (Objects.isNull(text)) {
+                return null;
+            }
+            int index = spread(text.hashCode()) & mask;
+            String key;
+            while (Objects.nonNull(key = keys[index])) {
+                if (key.equals(text)) {
+                    return (E) values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(char[] buffer, int offset, int length) {
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + buffer[offset + i];
+            }
+            int index = spread(hash) & mask;
+            String key;
+            while (Objects.nonNull(key = keys[index])) {
+                if (matches(key, buffer, offset, length)) {
+                    return (E) values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private static boolean matches(String key, char[] buffer, int offset, int length) {
+            if (key.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key.charAt(i) != buffer[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 开放寻址int表，用于取值稀疏或为负数的int类code
+     */
+    private static final class IntTable<E> {
+        private final int[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        IntTable(int[] keys, E[] values) {
+            int size = tableSize(keys.length);
+            this.keys = new int[size];
+            this.values = new Object[size];
+            this.mask = size - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int index = spread(keys[i]) & mask;
+                while (Objects.nonNull(this.values[index]) && this.keys[index] != keys[i]) {
+                    index = (index + 1) & mask;
+                }
+                if (Objects.isNull(this.values[index])) {
+                    this.keys[index] = keys[i];
+                    this.values[index] = values[i];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(int code) {
+            int index = spread(code) & mask;
+            Object value;
+            while (Objects.nonNull(value = values[index])) {
+                if (keys[index] == code) {
+                    return (E) value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package swagger.core;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 与文档框架无关的枚举解析结果，springfox插件与springdoc定制器共用
+ *
+ * @since 2026/10/17
+ */
+@Getter
+@RequiredArgsConstructor
+public class EnumDefinition {
+    private final Class<?> enumType;
+    /**
+     * 枚举键值描述，如：(1:启用;0:禁用)
+     */
+    private final String description;
+    /**
+     * 枚举code值列表（不可修改），未配置code字段时为枚举常量名
+     */
+    private final List<String> codes;
+    /**
+     * 与codes一一对应的message，未配置message字段时为枚举常量名
+     */
+    private final List<String> messages;
+    /**
+     * 枚举常量名
+     */
+    private final List<String> names;
+    /**
+     * 枚举泛型接口声明的code类型，未声明时为null
+     */
+    private final Class<?> codeType;
+}
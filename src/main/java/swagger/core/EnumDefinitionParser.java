@@ -0,0 +1,201 @@
+package swagger.core;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import swagger.annotation.SwaggerEnum;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 解析@SwaggerEnum枚举的键值描述、code、message及code类型，优先使用编译期生成的描述符，
+ * 未生成时回退到反射。不依赖springfox/springdoc
+ *
+ * @since 2026/10/17
+ */
+public class EnumDefinitionParser {
+    /**
+     * 查找code类型时不再向上遍历的父类
+     */
+    private static final Set<Class<?>> STOP_CLASSES = new HashSet<>(Arrays.asList(Enum.class, Object.class));
+
+    /**
+     * @param rawType 枚举类
+     * @return 键值描述
+     */
+    public String parseDescription(Class<?> rawType) {
+        SwaggerEnumDescriptor<?> descriptor = SwaggerEnumDescriptors.find(rawType);
+        if (Objects.nonNull(descriptor)) {
+            return descriptor.getDescription();
+        }
+        SwaggerEnum enumAnn = rawType.getAnnotation(SwaggerEnum.class);
+        Field codeField = null;
+        Field messageField = null;
+        if (enumAnn != null) {
+            String codeName = enumAnn.codeName();
+            String messageName = enumAnn.messageName();
+            if (StringUtils.isEmpty(codeName) || StringUtils.isEmpty(messageName)) {
+                return "";
+            }
+            codeField = ReflectionUtils.findField(rawType, codeName);
+            messageField = ReflectionUtils.findField(rawType, messageName);
+
+        }
+        return resolveConstants(rawType, codeField, messageField);
+    }
+
+    /**
+     * 解析枚举的key-value值
+     *
+     * @param rawType      枚举类
+     * @param codeField    code字段
+     * @param messageField message字段
+     * @return 键值描述
+     */
+    public String resolveConstants(Class<?> rawType, Field codeField, Field messageField) {
+        String displayValue;
+        Enum<?>[] enumConstants = (Enum<?>[]) rawType.getEnumConstants();
+        if (Objects.isNull(codeField) && Objects.isNull(messageField)) {
+            // default enum
+            displayValue = Stream.of(enumConstants)
+                    .map(e -> e.ordinal() + ":" + e.toString())
+                    .collect(Collectors.joining(";", ",(", ")"));
+        } else if (Objects.nonNull(codeField) && Objects.isNull(messageField)) {
+            FieldAccessor code = FieldAccessor.of(codeField);
+            displayValue = Stream.of(enumConstants)
+                    .map(e -> code.get(e) + ":" + e.toString())
+                    .collect(Collectors.joining(";", "(", ")"));
+        } else {
+            FieldAccessor code = FieldAccessor.of(codeField);
+            FieldAccessor message = FieldAccessor.of(messageField);
+            displayValue = Stream.of(enumConstants)
+                    .map(e -> code.get(e) + ":" + message.get(e))
+                    .collect(Collectors.joining(";", "(", ")"));
+        }
+        return displayValue;
+    }
+
+    /**
+     * 枚举code值列表，未配置code字段时为枚举常量名
+     *
+     * @param subject 枚举类
+     * @return codes
+     */
+    public List<String> resolveCodes(final Class<?> subject) {
+        SwaggerEnumDescriptor<?> descriptor = SwaggerEnumDescriptors.find(subject);
+        if (Objects.nonNull(descriptor)) {
+            return descriptor.getCodes().stream().map(String::valueOf).collect(Collectors.toList());
+        }
+        SwaggerEnum annotation = subject.getAnnotation(SwaggerEnum.class);
+        if (Objects.nonNull(annotation)) {
+            String codeName = annotation.codeName();
+            List<String> strings = Optional.ofNullable(FieldAccessor.of(subject, codeName))
+                    .map(code -> Stream.of(subject.getEnumConstants())
+                            .map(e -> String.valueOf(code.get(e)))
+                            .collect(Collectors.toList()))
+                    .orElse(new ArrayList<>());
+            if (!CollectionUtils.isEmpty(strings)) {
+                return strings;
+            }
+        }
+        return Stream.of(subject.getEnumConstants())
+                .map(Object::toString)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 按声明顺序返回各常量的code原始值（未转换为字符串）
+     *
+     * @param subject 枚举类
+     * @return codes，未标注@SwaggerEnum或code字段不存在时为null
+     */
+    public List<Object> resolveCodeValues(final Class<?> subject) {
+        SwaggerEnumDescriptor<?> descriptor = SwaggerEnumDescriptors.find(subject);
+        if (Objects.nonNull(descriptor)) {
+            return descriptor.getCodes();
+        }
+        SwaggerEnum annotation = subject.getAnnotation(SwaggerEnum.class);
+        FieldAccessor code = Objects.isNull(annotation) || StringUtils.isEmpty(annotation.codeName())
+                ? null : FieldAccessor.of(subject, annotation.codeName());
+        if (Objects.isNull(code)) {
+            return null;
+        }
+        return Stream.of(subject.getEnumConstants())
+                .map(code::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 枚举message列表，未配置message字段时为枚举常量名
+     *
+     * @param subject 枚举类
+     * @return messages
+     */
+    public List<String> resolveMessages(final Class<?> subject) {
+        SwaggerEnumDescriptor<?> descriptor = SwaggerEnumDescriptors.find(subject);
+        if (Objects.nonNull(descriptor)) {
+            return descriptor.getMessages().stream().map(String::valueOf).collect(Collectors.toList());
+        }
+        SwaggerEnum annotation = subject.getAnnotation(SwaggerEnum.class);
+        FieldAccessor message = Objects.isNull(annotation) || StringUtils.isEmpty(annotation.messageName())
+                ? null : FieldAccessor.of(subject, annotation.messageName());
+        return Stream.of(subject.getEnumConstants())
+                .map(e -> Objects.isNull(message) ? e.toString() : String.valueOf(message.get(e)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param subject 枚举类
+     * @return 枚举常量名
+     */
+    public List<String> resolveNames(final Class<?> subject) {
+        return Stream.of((Enum<?>[]) subject.getEnumConstants())
+                .map(Enum::name)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 按声明顺序逐层（广度优先）查找实现的接口及父类，取第一个至少声明两个泛型参数的类型的第二个参数，
+     * 如{@code CodeEnum<E, Integer>}中的Integer；泛型参数按继承关系绑定，原始类型接口不会抛出异常
+     *
+     * @param type 枚举类
+     * @return code类型，未声明时为null
+     */
+    public Class<?> resolveCodeType(Class<?> type) {
+        Deque<ResolvableType> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        queue.add(ResolvableType.forClass(type));
+        while (!queue.isEmpty()) {
+            ResolvableType current = queue.poll();
+            for (ResolvableType implemented : current.getInterfaces()) {
+                ResolvableType[] generics = implemented.getGenerics();
+                // 原始类型接口的泛型参数无法绑定，解析为上界Object，视为未声明
+                Class<?> codeType = generics.length > 1 ? generics[1].resolve() : null;
+                if (Objects.nonNull(codeType) && Object.class != codeType) {
+                    return codeType;
+                }
+                if (visited.add(implemented.toClass())) {
+                    queue.add(implemented);
+                }
+            }
+            ResolvableType parent = current.getSuperType();
+            if (parent != ResolvableType.NONE && !STOP_CLASSES.contains(parent.toClass())
+                    && visited.add(parent.toClass())) {
+                queue.add(parent);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,326 @@
+package swagger.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * 枚举解析结果的磁盘缓存，以枚举类名及类文件字节的MD5为key，类文件未变化时重启后直接读取，不再反射解析。
+ * <p>
+ * 文件格式：magic、版本、记录数，之后每条记录为长度、CRC32及内容。读取时跳过CRC不一致的记录，
+ * 文件头损坏或截断时忽略剩余内容；写入时先与磁盘上的记录合并，写到同目录的临时文件后原子替换，
+ * 多个实例并发写入时读取方只会看到某一次完整写入的结果
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+public class EnumDefinitionStore {
+    public static final String FILE_NAME = "swagger-enum-definitions.bin";
+    private static final int MAGIC = 0x53454E31;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param directory 缓存文件所在目录，不存在时写入时创建
+     */
+    public EnumDefinitionStore(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 读取磁盘上的缓存，文件不存在或损坏时不抛出异常
+     */
+    public void load() {
+        Map<String, Entry> loaded = read(file);
+        loaded.forEach(entries::putIfAbsent);
+        log.debug("Loaded {} swagger enum definitions from {}", loaded.size(), file);
+    }
+
+    /**
+     * @param enumType 枚举类
+     * @param parser   缓存未命中或类文件已变化时的解析方式，结果写入缓存
+     * @return 枚举解析结果
+     */
+    public EnumDefinition get(Class<?> enumType, Function<Class<?>, EnumDefinition> parser) {
+        String hash = hash(enumType);
+        if (Objects.isNull(hash)) {
+            return parser.apply(enumType);
+        }
+        Entry entry = entries.get(enumType.getName());
+        if (Objects.nonNull(entry) && hash.equals(entry.hash)) {
+            EnumDefinition definition = entry.toDefinition(enumType);
+            if (Objects.nonNull(definition)) {
+                hits.increment();
+                return definition;
+            }
+        }
+        misses.increment();
+        EnumDefinition definition = parser.apply(enumType);
+        entries.put(enumType.getName(), Entry.of(hash, definition));
+        dirty.set(true);
+        return definition;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 有新的解析结果时写入磁盘，失败只记录日志
+     */
+    public synchronized void flush() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            // 合并其它实例写入的记录，本实例的结果优先
+            Map<String, Entry> merged = read(file);
+            merged.putAll(entries);
+            temp = Files.createTempFile(directory, FILE_NAME, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(out, merged.values());
+            }
+            move(temp, file);
+            log.debug("Wrote {} swagger enum definitions to {}", merged.size(), file);
+        } catch (IOException | RuntimeException ex) {
+            dirty.set(true);
+            log.warn("Unable to write swagger enum definitions to {}", file, ex);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * @return 类文件字节的MD5，无法读取类文件（如运行时生成的类）时为null
+     */
+    static String hash(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (Objects.isNull(classLoader)) {
+            return null;
+        }
+        try (InputStream in = classLoader.getResourceAsStream(ClassUtils.convertClassNameToResourcePath(type.getName())
+                + ClassUtils.CLASS_FILE_SUFFIX)) {
+            return Objects.isNull(in) ? null : DigestUtils.md5DigestAsHex(in);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static Map<String, Entry> read(Path file) {
+        Map<String, Entry> result = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return result;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.debug("Ignoring swagger enum definitions {} with unknown header", file);
+                return result;
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                long checksum = buffer.getLong();
+                if (length < 0 || length > buffer.remaining()) {
+                    log.debug("Ignoring truncated swagger enum definitions {}", file);
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload, 0, length);
+                if (crc.getValue() != checksum) {
+                    continue;
+                }
+                Entry entry = Entry.decode(ByteBuffer.wrap(payload));
+                if (Objects.nonNull(entry.className) && Objects.nonNull(entry.hash)) {
+                    result.put(entry.className, entry);
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.debug("Ignoring unreadable swagger enum definitions {}", file, ex);
+        }
+        return result;
+    }
+
+    private static void write(OutputStream out, Collection<Entry> values) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(values.size());
+        CRC32 crc = new CRC32();
+        for (Entry entry : values) {
+            byte[] payload = entry.encode();
+            crc.reset();
+            crc.update(payload, 0, payload.length);
+            data.writeInt(payload.length);
+            data.writeLong(crc.getValue());
+            data.write(payload);
+        }
+        data.flush();
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (Objects.isNull(path)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.debug("Unable to delete {}", path, ex);
+        }
+    }
+
+    private static final class Entry {
+        private final String className;
+        private final String hash;
+        private final String description;
+        private final List<String> codes;
+        private final List<String> messages;
+        private final List<String> names;
+        /**
+         * code类型的类名，未声明时为null
+         */
+        private final String codeType;
+
+        private Entry(String className, String hash, String description, List<String> codes,
+                      List<String> messages, List<String> names, String codeType) {
+            this.className = className;
+            this.hash = hash;
+            this.description = description;
+            this.codes = codes;
+            this.messages = messages;
+            this.names = names;
+            this.codeType = codeType;
+        }
+
+        static Entry of(String hash, EnumDefinition definition) {
+            return new Entry(definition.getEnumType().getName(), hash, definition.getDescription(),
+                    definition.getCodes(), definition.getMessages(), definition.getNames(),
+                    Objects.isNull(definition.getCodeType()) ? null : definition.getCodeType().getName());
+        }
+
+        /**
+         * @return 解析结果，code类型无法加载时为null
+         */
+        EnumDefinition toDefinition(Class<?> enumType) {
+            Class<?> resolvedCodeType = null;
+            if (Objects.nonNull(codeType)) {
+                try {
+                    resolvedCodeType = ClassUtils.forName(codeType, enumType.getClassLoader());
+                } catch (ClassNotFoundException | LinkageError ex) {
+                    return null;
+                }
+            }
+            return new EnumDefinition(enumType, description, codes, messages, names, resolvedCodeType);
+        }
+
+        byte[] encode() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeString(out, className);
+            writeString(out, hash);
+            writeString(out, description);
+            writeStrings(out, codes);
+            writeStrings(out, messages);
+            writeStrings(out, names);
+            writeString(out, codeType);
+            out.flush();
+            return bytes.toByteArray();
+        }
+
+        static Entry decode(ByteBuffer buffer) {
+            return new Entry(readString(buffer), readString(buffer), readString(buffer), readStrings(buffer),
+                    readStrings(buffer), readStrings(buffer), readString(buffer));
+        }
+
+        /**
+         * 长度前缀的UTF-8字符串，-1表示null（DataOutput.writeUTF限制64KB，大枚举的描述会超出）
+         */
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            if (Objects.isNull(value)) {
+                out.writeInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+
+        private static String readString(ByteBuffer buffer) {
+            int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        private static List<String> readStrings(ByteBuffer buffer) {
+            int size = buffer.getInt();
+            List<String> values = new ArrayList<>(Math.min(size, buffer.remaining() / 4));
+            for (int i = 0; i < size; i++) {
+                values.add(readString(buffer));
+            }
+            return Collections.unmodifiableList(values);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package swagger.core;
+
+import swagger.metrics.SwaggerEnumOperation;
+import swagger.metrics.SwaggerEnumRecorders;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 枚举解析结果缓存，以枚举类为key（基于ClassValue，不阻止类加载器卸载）
+ *
+ * @since 2026/10/17
+ */
+public class EnumDefinitions {
+    private static final EnumDefinitions INSTANCE = new EnumDefinitions();
+
+    private final EnumDefinitionParser parser = new EnumDefinitionParser();
+    private final LongAdder misses = new LongAdder();
+    private final ClassValue<EnumDefinition> definitions = new ClassValue<EnumDefinition>() {
+        @Override
+        protected EnumDefinition computeValue(Class<?> type) {
+            misses.increment();
+            long start = SwaggerEnumRecorders.start();
+            EnumDefinitionStore current = store;
+            EnumDefinition definition = Objects.isNull(current) ? create(type)
+                    : current.get(type, EnumDefinitions.this::create);
+            SwaggerEnumRecorders.record(SwaggerEnumOperation.DEFINITION, type, start, definition.getCodes().size(),
+                    definition.getDescription(), null);
+            return definition;
+        }
+    };
+    private volatile EnumDefinitionStore store;
+
+    public static EnumDefinitions getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param enumType 枚举类
+     * @return 枚举解析结果
+     */
+    public EnumDefinition get(Class<?> enumType) {
+        return definitions.get(enumType);
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @param store 磁盘缓存，之后首次解析的枚举先查磁盘缓存；为null时关闭
+     */
+    public void setStore(EnumDefinitionStore store) {
+        this.store = store;
+    }
+
+    public EnumDefinitionStore getStore() {
+        return store;
+    }
+
+    private EnumDefinition create(Class<?> enumType) {
+        return new EnumDefinition(
+                enumType,
+                parser.parseDescription(enumType),
+                Collections.unmodifiableList(parser.resolveCodes(enumType)),
+                Collections.unmodifiableList(parser.resolveMessages(enumType)),
+                Collections.unmodifiableList(parser.resolveNames(enumType)),
+                parser.resolveCodeType(enumType));
+    }
+}
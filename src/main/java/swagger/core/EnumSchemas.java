@@ -0,0 +1,91 @@
+package swagger.core;
+
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 按枚举code类型构建OAS3 schema，springfox组件schema过滤器与springdoc定制器共用
+ *
+ * @since 2026/10/17
+ */
+public final class EnumSchemas {
+    public static final String VARNAMES_EXTENSION = "x-enum-varnames";
+    public static final String DESCRIPTIONS_EXTENSION = "x-enum-descriptions";
+
+    private EnumSchemas() {
+    }
+
+    /**
+     * code类型的schema，enum为全部code值；code无法按声明类型转换时退化为字符串
+     *
+     * @param definition 枚举解析结果
+     * @return 新建的schema，调用方可继续修改
+     */
+    public static Schema<Object> valueSchema(EnumDefinition definition) {
+        Class<?> codeType = Objects.isNull(definition.getCodeType()) ? String.class : definition.getCodeType();
+        Schema<Object> schema = rawSchema(codeType);
+        List<Object> values = new ArrayList<>(definition.getCodes().size());
+        try {
+            for (String code : definition.getCodes()) {
+                values.add(toValue(codeType, code));
+            }
+        } catch (NumberFormatException ex) {
+            schema = rawSchema(String.class);
+            values = new ArrayList<>(definition.getCodes());
+        }
+        schema.setEnum(values);
+        return schema;
+    }
+
+    /**
+     * components/schemas中的共享枚举定义，附带键值描述及x-enum-varnames、x-enum-descriptions扩展
+     *
+     * @param definition 枚举解析结果
+     * @return 新建的schema，扩展中的列表为副本，调用方可继续修改
+     */
+    public static Schema<Object> componentSchema(EnumDefinition definition) {
+        Schema<Object> schema = valueSchema(definition);
+        schema.setDescription(definition.getDescription());
+        schema.addExtension(VARNAMES_EXTENSION, new ArrayList<>(definition.getNames()));
+        schema.addExtension(DESCRIPTIONS_EXTENSION, new ArrayList<>(definition.getMessages()));
+        return schema;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Schema<Object> rawSchema(Class<?> codeType) {
+        Schema schema;
+        if (Integer.class == codeType || Short.class == codeType || Byte.class == codeType) {
+            schema = new IntegerSchema();
+        } else if (Long.class == codeType) {
+            schema = new IntegerSchema().format("int64");
+        } else if (Number.class.isAssignableFrom(codeType)) {
+            schema = new NumberSchema();
+        } else if (Boolean.class == codeType) {
+            schema = new BooleanSchema();
+        } else {
+            schema = new StringSchema();
+        }
+        return (Schema<Object>) schema;
+    }
+
+    private static Object toValue(Class<?> codeType, String code) {
+        if (Integer.class == codeType || Short.class == codeType || Byte.class == codeType) {
+            return Integer.valueOf(code);
+        } else if (Long.class == codeType) {
+            return Long.valueOf(code);
+        } else if (Number.class.isAssignableFrom(codeType)) {
+            return new BigDecimal(code);
+        } else if (Boolean.class == codeType) {
+            return Boolean.valueOf(code);
+        }
+        return code;
+    }
+}
@@ -0,0 +1,67 @@
+package swagger.core;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * 字段读取器：字段只解析并设置访问权限一次，之后通过MethodHandle读取，不再做反射安全检查
+ *
+ * @since 2026/10/17
+ */
+public final class FieldAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final Map<Field, FieldAccessor> ACCESSORS = new ConcurrentReferenceHashMap<>();
+
+    private final Field field;
+    private final MethodHandle getter;
+
+    private FieldAccessor(Field field, MethodHandle getter) {
+        this.field = field;
+        this.getter = getter;
+    }
+
+    /**
+     * @param field 字段，为null时返回null
+     * @return 字段读取器
+     */
+    public static FieldAccessor of(Field field) {
+        if (field == null) {
+            return null;
+        }
+        return ACCESSORS.computeIfAbsent(field, FieldAccessor::create);
+    }
+
+    private static FieldAccessor create(Field field) {
+        try {
+            ReflectionUtils.makeAccessible(field);
+            return new FieldAccessor(field, MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE));
+        } catch (IllegalAccessException | RuntimeException ex) {
+            // jdk17+强封装模块中的非public字段无法开放访问
+            throw new IllegalStateException("Unable to access field " + field, ex);
+        }
+    }
+
+    public static FieldAccessor of(Class<?> type, String name) {
+        return of(ReflectionUtils.findField(type, name));
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Unable to read field " + field, ex);
+        }
+    }
+}
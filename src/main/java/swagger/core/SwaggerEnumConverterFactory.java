@@ -0,0 +1,75 @@
+package swagger.core;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+
+import java.util.Objects;
+
+/**
+ * 字符串转枚举：@SwaggerEnum枚举先按code再按常量名查找预计算的EnumCodeTable，
+ * 其它枚举与spring默认的StringToEnumConverterFactory一致按常量名转换。每个枚举类的转换器只创建一次
+ *
+ * @since 2026/10/17
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class SwaggerEnumConverterFactory implements ConverterFactory<String, Enum> {
+    /**
+     * ConverterFactoryAdapter每次转换都会调用getConverter，按枚举类缓存
+     */
+    private static final ClassValue<Converter<String, Enum>> CONVERTERS = new ClassValue<Converter<String, Enum>>() {
+        @Override
+        protected Converter<String, Enum> computeValue(Class<?> type) {
+            Class<?> enumType = type;
+            while (Objects.nonNull(enumType) && !enumType.isEnum()) {
+                enumType = enumType.getSuperclass();
+            }
+            if (Objects.isNull(enumType)) {
+                throw new IllegalArgumentException("The target type " + type.getName() + " does not refer to an enum");
+            }
+            EnumCodeTable<?> table = EnumCodeTable.of(enumType);
+            return Objects.isNull(table) ? new NameConverter(enumType) : new CodeConverter(table);
+        }
+    };
+
+    @Override
+    public <T extends Enum> Converter<String, T> getConverter(Class<T> targetType) {
+        return (Converter<String, T>) CONVERTERS.get(targetType);
+    }
+
+    private static final class CodeConverter implements Converter<String, Enum> {
+        private final EnumCodeTable<?> table;
+
+        CodeConverter(EnumCodeTable<?> table) {
+            this.table = table;
+        }
+
+        @Override
+        public Enum convert(String source) {
+            if (source.isEmpty()) {
+                return null;
+            }
+            Enum<?> constant = table.fromCodeOrName(source.trim());
+            if (Objects.isNull(constant)) {
+                throw new IllegalArgumentException("No enum constant " + table.getEnumType().getName()
+                        + " with code or name " + source.trim());
+            }
+            return constant;
+        }
+    }
+
+    private static final class NameConverter implements Converter<String, Enum> {
+        private final Class enumType;
+
+        NameConverter(Class<?> enumType) {
+            this.enumType = enumType;
+        }
+
+        @Override
+        public Enum convert(String source) {
+            if (source.isEmpty()) {
+                return null;
+            }
+            return Enum.valueOf(enumType, source.trim());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package swagger.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * 编译期生成的枚举描述符基类，由enum-swagger3-processor为@SwaggerEnum枚举生成子类，
+ * 直接读取code/message而不经过反射。code/message由构造参数决定，编译期无法求值，
+ * 首次访问时读取一次并缓存code、message列表及键值描述
+ *
+ * @since 2026/10/17
+ */
+public abstract class SwaggerEnumDescriptor<E extends Enum<E>> {
+    private final Class<E> enumType;
+    private final Class<?> codeType;
+    private volatile Values values;
+
+    protected SwaggerEnumDescriptor(Class<E> enumType, Class<?> codeType) {
+        this.enumType = enumType;
+        this.codeType = codeType;
+    }
+
+    /**
+     * @return 枚举常量，生成类中为E.values()
+     */
+    protected abstract E[] constants();
+
+    protected abstract Object code(E e);
+
+    /**
+     * @param e 枚举常量
+     * @return message，未配置message字段时为枚举常量名
+     */
+    protected abstract Object message(E e);
+
+    public Class<E> getEnumType() {
+        return enumType;
+    }
+
+    /**
+     * @return code字段声明的类型
+     */
+    public Class<?> getCodeType() {
+        return codeType;
+    }
+
+    public List<Object> getCodes() {
+        return values().codes;
+    }
+
+    public List<Object> getMessages() {
+        return values().messages;
+    }
+
+    /**
+     * @return 与反射解析一致的键值描述，如：(1:启用;0:禁用)
+     */
+    public String getDescription() {
+        return values().description;
+    }
+
+    /**
+     * 并发首次访问时可能重复计算，结果相同
+     */
+    private Values values() {
+        Values current = values;
+        if (Objects.isNull(current)) {
+            current = new Values(constants());
+            values = current;
+        }
+        return current;
+    }
+
+    private final class Values {
+        private final List<Object> codes;
+        private final List<Object> messages;
+        private final String description;
+
+        private Values(E[] constants) {
+            List<Object> codes = new ArrayList<>(constants.length);
+            List<Object> messages = new ArrayList<>(constants.length);
+            StringJoiner description = new StringJoiner(";", "(", ")");
+            for (E e : constants) {
+                Object code = code(e);
+                Object message = message(e);
+                codes.add(code);
+                messages.add(message);
+                description.add(code + ":" + message);
+            }
+            this.codes = Collections.unmodifiableList(codes);
+            this.messages = Collections.unmodifiableList(messages);
+            this.description = description.toString();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package swagger.core;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 查找编译期生成的枚举描述符。各jar的索引文件按类加载器一次性读取合并，
+ * 描述符按枚举类缓存，同一枚举始终使用同一个描述符实例
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+final class SwaggerEnumDescriptors {
+    /**
+     * 与enum-swagger3-processor生成的索引位置保持一致，内容为：枚举类名=描述符类名
+     */
+    static final String INDEX_LOCATION = "META-INF/swagger-enum/descriptors";
+
+    private static final Map<ClassLoader, Properties> INDEXES = new ConcurrentReferenceHashMap<>();
+
+    private static final ClassValue<Optional<SwaggerEnumDescriptor<?>>> DESCRIPTORS =
+            new ClassValue<Optional<SwaggerEnumDescriptor<?>>>() {
+                @Override
+                protected Optional<SwaggerEnumDescriptor<?>> computeValue(Class<?> type) {
+                    return Optional.ofNullable(load(type));
+                }
+            };
+
+    private SwaggerEnumDescriptors() {
+    }
+
+    /**
+     * @param enumType 枚举类
+     * @return 生成的描述符，不存在时返回null
+     */
+    static SwaggerEnumDescriptor<?> find(Class<?> enumType) {
+        return DESCRIPTORS.get(enumType).orElse(null);
+    }
+
+    private static SwaggerEnumDescriptor<?> load(Class<?> enumType) {
+        ClassLoader classLoader = enumType.getClassLoader();
+        if (Objects.isNull(classLoader)) {
+            return null;
+        }
+        String descriptorName = INDEXES.computeIfAbsent(classLoader, SwaggerEnumDescriptors::loadIndex)
+                .getProperty(enumType.getName());
+        if (Objects.isNull(descriptorName)) {
+            return null;
+        }
+        try {
+            Class<?> descriptorType = ClassUtils.forName(descriptorName, classLoader);
+            SwaggerEnumDescriptor<?> descriptor =
+                    (SwaggerEnumDescriptor<?>) ReflectionUtils.accessibleConstructor(descriptorType).newInstance();
+            return descriptor.getEnumType() == enumType ? descriptor : null;
+        } catch (Throwable ex) {
+            log.warn("Unable to load swagger enum descriptor {} for {}, fallback to reflection",
+                    descriptorName, enumType.getName(), ex);
+            return null;
+        }
+    }
+
+    /**
+     * 一次getResources读取类路径中全部索引文件
+     */
+    private static Properties loadIndex(ClassLoader classLoader) {
+        try {
+            return PropertiesLoaderUtils.loadAllProperties(INDEX_LOCATION, classLoader);
+        } catch (IOException ex) {
+            log.warn("Unable to load swagger enum descriptor index {}", INDEX_LOCATION, ex);
+            return new Properties();
+        }
+    }
+}
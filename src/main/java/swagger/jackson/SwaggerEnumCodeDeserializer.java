@@ -0,0 +1,57 @@
+package swagger.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import swagger.core.EnumCodeTable;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 按code读取枚举：int数字直接查数组/int表，其余字面量按字符数组查找，字符串未匹配code时再按常量名查找
+ *
+ * @since 2026/10/17
+ */
+class SwaggerEnumCodeDeserializer extends StdScalarDeserializer<Object> {
+    private static final long serialVersionUID = 1L;
+
+    private final EnumCodeTable<?> table;
+
+    SwaggerEnumCodeDeserializer(EnumCodeTable<?> table) {
+        super(table.getEnumType());
+        this.table = table;
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        Object value;
+        if (token == JsonToken.VALUE_NUMBER_INT && table.isIntCodes()
+                && p.getNumberType() == JsonParser.NumberType.INT) {
+            value = table.fromInt(p.getIntValue());
+        } else if (token == JsonToken.VALUE_STRING) {
+            char[] buffer = p.getTextCharacters();
+            int offset = p.getTextOffset();
+            int length = p.getTextLength();
+            value = table.fromText(buffer, offset, length);
+            if (Objects.isNull(value)) {
+                value = table.fromName(buffer, offset, length);
+            }
+        } else if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+                || token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            value = table.fromText(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        } else {
+            return ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        if (Objects.nonNull(value)) {
+            return value;
+        }
+        if (ctxt.isEnabled(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)) {
+            return null;
+        }
+        return ctxt.handleWeirdStringValue(handledType(), p.getText(), "not one of the codes of %s", table);
+    }
+}
@@ -0,0 +1,60 @@
+package swagger.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import swagger.core.EnumCodeTable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 输出枚举的code原始值：数字、布尔按原类型输出，其余按预先编码的字符串输出
+ *
+ * @since 2026/10/17
+ */
+@SuppressWarnings("rawtypes")
+class SwaggerEnumCodeSerializer extends StdSerializer<Enum> {
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] codes;
+    private final SerializedString[] texts;
+
+    SwaggerEnumCodeSerializer(EnumCodeTable<?> table) {
+        super(Enum.class);
+        Enum<?>[] constants = table.getEnumType().getEnumConstants();
+        this.codes = new Object[constants.length];
+        this.texts = new SerializedString[constants.length];
+        for (Enum<?> constant : constants) {
+            codes[constant.ordinal()] = table.code(constant);
+            texts[constant.ordinal()] = new SerializedString(table.text(constant));
+        }
+    }
+
+    @Override
+    public void serialize(Enum value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int ordinal = value.ordinal();
+        Object code = codes[ordinal];
+        if (code instanceof Integer || code instanceof Short || code instanceof Byte) {
+            gen.writeNumber(((Number) code).intValue());
+        } else if (code instanceof Long) {
+            gen.writeNumber((Long) code);
+        } else if (code instanceof BigDecimal) {
+            gen.writeNumber((BigDecimal) code);
+        } else if (code instanceof BigInteger) {
+            gen.writeNumber((BigInteger) code);
+        } else if (code instanceof Double) {
+            gen.writeNumber((Double) code);
+        } else if (code instanceof Float) {
+            gen.writeNumber((Float) code);
+        } else if (code instanceof Boolean) {
+            gen.writeBoolean((Boolean) code);
+        } else if (code == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(texts[ordinal]);
+        }
+    }
+}
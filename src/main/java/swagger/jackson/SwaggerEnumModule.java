@@ -0,0 +1,52 @@
+package swagger.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import swagger.core.EnumCodeTable;
+
+import java.util.Objects;
+
+/**
+ * Jackson模块：@SwaggerEnum枚举按codeName字段序列化为code，并按预计算的code表反序列化，
+ * 与文档中展示的code保持一致。优先于枚举自身的@JsonValue/@JsonCreator
+ *
+ * @since 2026/10/17
+ */
+public class SwaggerEnumModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public SwaggerEnumModule() {
+        super(SwaggerEnumModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new CodeSerializers());
+        context.addDeserializers(new CodeDeserializers());
+    }
+
+    private static final class CodeSerializers extends Serializers.Base {
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            EnumCodeTable<?> table = EnumCodeTable.of(type.getRawClass());
+            return Objects.isNull(table) ? null : new SwaggerEnumCodeSerializer(table);
+        }
+    }
+
+    private static final class CodeDeserializers extends Deserializers.Base {
+        @Override
+        public JsonDeserializer<?> findEnumDeserializer(Class<?> type, DeserializationConfig config,
+                                                        BeanDescription beanDesc) {
+            EnumCodeTable<?> table = EnumCodeTable.of(type);
+            return Objects.isNull(table) ? null : new SwaggerEnumCodeDeserializer(table);
+        }
+    }
+}
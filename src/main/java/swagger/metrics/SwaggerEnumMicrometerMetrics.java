@@ -0,0 +1,186 @@
+package swagger.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import swagger.SwaggerEnumMetadataRegistry;
+import swagger.core.EnumDefinitionStore;
+import swagger.core.EnumDefinitions;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 容器中存在MeterRegistry时注册为SwaggerEnumRecorder，指标：
+ * <ul>
+ *     <li>swagger.enum.operation：插件调用（operation=converter|parameter）及缓存未命中时的计算
+ *     （operation=definition|metadata）的次数与累计耗时</li>
+ *     <li>swagger.enum.constants、swagger.enum.description.length：每个枚举解析时记录一次常量数及键值描述长度</li>
+ *     <li>swagger.enum.cache.requests、swagger.enum.cache.hit.ratio：属性计算结果、元数据及磁盘缓存的命中情况</li>
+ *     <li>swagger.enum.slowest：插件调用累计耗时最长的{@value #SLOWEST_SIZE}个枚举（已包含其中的计算耗时），上下文刷新后更新</li>
+ * </ul>
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+public class SwaggerEnumMicrometerMetrics implements SwaggerEnumRecorder, InitializingBean, DisposableBean,
+        ApplicationListener<ContextRefreshedEvent> {
+    static final int SLOWEST_SIZE = 10;
+    private static final String PREFIX = "swagger.enum.";
+    private static final boolean SPRINGFOX_PRESENT = ClassUtils.isPresent(
+            "springfox.documentation.service.AllowableListValues", SwaggerEnumMicrometerMetrics.class.getClassLoader());
+
+    private final ObjectProvider<MeterRegistry> registries;
+    private final Map<SwaggerEnumOperation, Timer> timers = new EnumMap<>(SwaggerEnumOperation.class);
+    private final Map<SwaggerEnumOperation, Counter> hits = new EnumMap<>(SwaggerEnumOperation.class);
+    private final Map<SwaggerEnumOperation, Counter> misses = new EnumMap<>(SwaggerEnumOperation.class);
+    /**
+     * 各枚举插件调用的累计耗时，弱引用key不阻止类卸载
+     */
+    private final Map<Class<?>, LongAdder> enumNanos = new ConcurrentReferenceHashMap<>(256,
+            ConcurrentReferenceHashMap.ReferenceType.WEAK);
+    private DistributionSummary constants;
+    private DistributionSummary descriptionLength;
+    private MultiGauge slowest;
+
+    public SwaggerEnumMicrometerMetrics(ObjectProvider<MeterRegistry> registries) {
+        this.registries = registries;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        MeterRegistry registry = registries.getIfUnique();
+        if (Objects.isNull(registry)) {
+            return;
+        }
+        for (SwaggerEnumOperation operation : SwaggerEnumOperation.values()) {
+            timers.put(operation, Timer.builder(PREFIX + "operation")
+                    .description("Swagger enum plugin invocations")
+                    .tag("operation", operation.getTag())
+                    .register(registry));
+            hits.put(operation, cacheCounter(registry, operation, "hit"));
+            misses.put(operation, cacheCounter(registry, operation, "miss"));
+        }
+        constants = DistributionSummary.builder(PREFIX + "constants")
+                .description("Constants of the enums handled by the plugin")
+                .baseUnit("constants")
+                .register(registry);
+        descriptionLength = DistributionSummary.builder(PREFIX + "description.length")
+                .description("Length of the generated code:message descriptions")
+                .baseUnit("characters")
+                .register(registry);
+        Counter planHits = hits.get(SwaggerEnumOperation.CONVERTER_APPLY);
+        Counter planMisses = misses.get(SwaggerEnumOperation.CONVERTER_APPLY);
+        hitRatio(registry, "property-plan", () -> (long) planHits.count(), () -> (long) planMisses.count());
+        if (SPRINGFOX_PRESENT) {
+            SpringfoxMetadata.bind(registry);
+        }
+        EnumDefinitionStore store = EnumDefinitions.getInstance().getStore();
+        if (Objects.nonNull(store)) {
+            hitRatio(registry, "disk", store::getHitCount, store::getMissCount);
+        }
+        slowest = MultiGauge.builder(PREFIX + "slowest")
+                .description("Cumulative plugin time of the slowest enums")
+                .baseUnit("seconds")
+                .register(registry);
+        SwaggerEnumRecorders.register(this);
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, SwaggerEnumOperation operation, String result) {
+        return Counter.builder(PREFIX + "cache.requests")
+                .tag("operation", operation.getTag())
+                .tag("result", result)
+                .register(registry);
+    }
+
+    static void hitRatio(MeterRegistry registry, String cache, LongSupplier hits, LongSupplier misses) {
+        Gauge.builder(PREFIX + "cache.hit.ratio", () -> {
+                    long hitCount = hits.getAsLong();
+                    long total = hitCount + misses.getAsLong();
+                    return total == 0 ? Double.NaN : (double) hitCount / total;
+                })
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    @Override
+    public void record(SwaggerEnumOperation operation, Class<?> enumType, long elapsedNanos, int constants,
+                       String description, Boolean cacheHit) {
+        timers.get(operation).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (Objects.nonNull(cacheHit)) {
+            (cacheHit ? hits : misses).get(operation).increment();
+        }
+        if (Objects.isNull(enumType)) {
+            return;
+        }
+        if (operation == SwaggerEnumOperation.DEFINITION) {
+            // 每个枚举只解析一次，分布不受调用频率影响
+            this.constants.record(constants);
+            if (Objects.nonNull(description)) {
+                descriptionLength.record(description.length());
+            }
+        }
+        if (!operation.isComputation()) {
+            enumNanos.computeIfAbsent(enumType, type -> new LongAdder()).add(elapsedNanos);
+        }
+    }
+
+    /**
+     * springfox在上下文刷新时生成文档，刷新后更新最慢枚举；asyncDocumentation开启时只包含刷新前已处理的枚举
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (Objects.isNull(slowest)) {
+            return;
+        }
+        List<Map.Entry<Class<?>, LongAdder>> top = enumNanos.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Class<?>, LongAdder> entry) -> entry.getValue().sum())
+                        .reversed())
+                .limit(SLOWEST_SIZE)
+                .collect(Collectors.toList());
+        slowest.register(top.stream()
+                .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of("enum", entry.getKey().getName()),
+                        entry.getValue(), nanos -> nanos.sum() / (double) TimeUnit.SECONDS.toNanos(1)))
+                .collect(Collectors.toList()), true);
+        if (log.isDebugEnabled()) {
+            log.debug("Slowest swagger enums: {}", top.stream()
+                    .map(entry -> entry.getKey().getSimpleName() + "="
+                            + TimeUnit.NANOSECONDS.toMicros(entry.getValue().sum()) + "us")
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        SwaggerEnumRecorders.unregister(this);
+    }
+
+    /**
+     * 隔离对springfox类型的引用，只使用springdoc时不会加载
+     */
+    private static final class SpringfoxMetadata {
+        static void bind(MeterRegistry registry) {
+            SwaggerEnumMetadataRegistry metadata = SwaggerEnumMetadataRegistry.getInstance();
+            hitRatio(registry, "metadata", metadata::getHitCount, metadata::getMissCount);
+        }
+    }
+}
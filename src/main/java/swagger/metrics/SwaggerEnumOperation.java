@@ -0,0 +1,47 @@
+package swagger.metrics;
+
+/**
+ * 被统计的插件操作
+ *
+ * @since 2026/10/17
+ */
+public enum SwaggerEnumOperation {
+    /**
+     * SwaggerEnumConverterPlugin.apply
+     */
+    CONVERTER_APPLY("converter", false),
+    /**
+     * SwaggerEnumParameterBuilderPlugin.apply
+     */
+    PARAMETER_APPLY("parameter", false),
+    /**
+     * EnumDefinitions缓存未命中时的反射解析（含磁盘缓存读取），每个枚举一次
+     */
+    DEFINITION("definition", true),
+    /**
+     * SwaggerEnumMetadataRegistry缓存未命中时构建springfox元数据，不含其中的DEFINITION，每个枚举一次
+     */
+    METADATA("metadata", true);
+
+    private final String tag;
+    private final boolean computation;
+
+    SwaggerEnumOperation(String tag, boolean computation) {
+        this.tag = tag;
+        this.computation = computation;
+    }
+
+    /**
+     * @return 指标tag及JFR事件中的操作名
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * @return 缓存未命中时的计算，耗时已包含在外层的插件调用中
+     */
+    public boolean isComputation() {
+        return computation;
+    }
+}
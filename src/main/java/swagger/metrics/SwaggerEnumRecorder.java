@@ -0,0 +1,20 @@
+package swagger.metrics;
+
+/**
+ * 插件操作的统计输出（Micrometer、JFR），通过SwaggerEnumRecorders注册
+ *
+ * @since 2026/10/17
+ */
+public interface SwaggerEnumRecorder {
+
+    /**
+     * @param operation    操作
+     * @param enumType     处理的枚举类，非枚举属性/参数为null
+     * @param elapsedNanos 耗时
+     * @param constants    枚举常量数，非枚举为0
+     * @param description  生成的键值描述，未生成时为null
+     * @param cacheHit     是否命中缓存，操作不经过缓存时为null
+     */
+    void record(SwaggerEnumOperation operation, Class<?> enumType, long elapsedNanos, int constants,
+                String description, Boolean cacheHit);
+}
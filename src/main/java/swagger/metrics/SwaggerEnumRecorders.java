@@ -0,0 +1,78 @@
+package swagger.metrics;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 插件埋点入口。没有注册任何SwaggerEnumRecorder时{@link #start()}不读取时钟，{@link #record}直接返回，
+ * 未引入Micrometer且没有进行中的JFR录制时插件不产生额外开销
+ *
+ * @since 2026/10/17
+ */
+public final class SwaggerEnumRecorders {
+    /**
+     * 未开启统计时start()的返回值
+     */
+    public static final long DISABLED = Long.MIN_VALUE;
+
+    private static final List<SwaggerEnumRecorder> RECORDERS = new CopyOnWriteArrayList<>();
+    private static volatile SwaggerEnumRecorder current;
+
+    private SwaggerEnumRecorders() {
+    }
+
+    public static synchronized void register(SwaggerEnumRecorder recorder) {
+        if (!RECORDERS.contains(recorder)) {
+            RECORDERS.add(recorder);
+            update();
+        }
+    }
+
+    public static synchronized void unregister(SwaggerEnumRecorder recorder) {
+        if (RECORDERS.remove(recorder)) {
+            update();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return Objects.nonNull(current);
+    }
+
+    /**
+     * @return 开始时间，未开启统计时为{@link #DISABLED}
+     */
+    public static long start() {
+        return Objects.isNull(current) ? DISABLED : System.nanoTime();
+    }
+
+    /**
+     * @param start start()的返回值，为{@link #DISABLED}时不记录
+     * @see SwaggerEnumRecorder#record
+     */
+    public static void record(SwaggerEnumOperation operation, Class<?> enumType, long start, int constants,
+                              String description, Boolean cacheHit) {
+        if (start == DISABLED) {
+            return;
+        }
+        SwaggerEnumRecorder recorder = current;
+        if (Objects.nonNull(recorder)) {
+            recorder.record(operation, enumType, System.nanoTime() - start, constants, description, cacheHit);
+        }
+    }
+
+    private static void update() {
+        if (RECORDERS.isEmpty()) {
+            current = null;
+        } else if (RECORDERS.size() == 1) {
+            current = RECORDERS.get(0);
+        } else {
+            SwaggerEnumRecorder[] recorders = RECORDERS.toArray(new SwaggerEnumRecorder[0]);
+            current = (operation, enumType, elapsedNanos, constants, description, cacheHit) -> {
+                for (SwaggerEnumRecorder recorder : recorders) {
+                    recorder.record(operation, enumType, elapsedNanos, constants, description, cacheHit);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package swagger.metrics.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import swagger.metrics.SwaggerEnumOperation;
+import swagger.metrics.SwaggerEnumRecorder;
+import swagger.metrics.SwaggerEnumRecorders;
+
+import java.util.Objects;
+
+/**
+ * 有进行中的JFR录制时注册为SwaggerEnumRecorder并输出SwaggerEnumOperationEvent，录制全部结束后注销。
+ * 只在运行时存在jdk.jfr时注册，其它类不直接引用本包
+ *
+ * @since 2026/10/17
+ */
+@Slf4j
+public class SwaggerEnumJfrRecorder implements SwaggerEnumRecorder, FlightRecorderListener, InitializingBean,
+        DisposableBean {
+
+    @Override
+    public void afterPropertiesSet() {
+        FlightRecorder.addListener(this);
+        if (FlightRecorder.isInitialized()) {
+            update();
+        }
+    }
+
+    @Override
+    public void recordingStateChanged(Recording recording) {
+        update();
+    }
+
+    private synchronized void update() {
+        boolean recording = false;
+        try {
+            recording = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                    .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+        } catch (RuntimeException ex) {
+            log.debug("Unable to read flight recorder state", ex);
+        }
+        if (recording) {
+            SwaggerEnumRecorders.register(this);
+        } else {
+            SwaggerEnumRecorders.unregister(this);
+        }
+    }
+
+    @Override
+    public void record(SwaggerEnumOperation operation, Class<?> enumType, long elapsedNanos, int constants,
+                       String description, Boolean cacheHit) {
+        SwaggerEnumOperationEvent event = new SwaggerEnumOperationEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.operation = operation.getTag();
+        event.enumClass = enumType;
+        event.elapsed = elapsedNanos;
+        event.constants = constants;
+        event.descriptionLength = Objects.isNull(description) ? 0 : description.length();
+        event.cache = Objects.isNull(cacheHit) ? null : cacheHit ? "hit" : "miss";
+        event.commit();
+    }
+
+    @Override
+    public void destroy() {
+        FlightRecorder.removeListener(this);
+        SwaggerEnumRecorders.unregister(this);
+    }
+}
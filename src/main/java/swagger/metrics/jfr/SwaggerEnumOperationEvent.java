@@ -0,0 +1,40 @@
+package swagger.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 插件操作的JFR事件，jcmd JFR.start等录制中可按Swagger Enum分类查看
+ *
+ * @since 2026/10/17
+ */
+@Name("swagger.enum.Operation")
+@Label("Swagger Enum Operation")
+@Category("Swagger Enum")
+@Description("Swagger enum plugin invocation")
+@StackTrace(false)
+class SwaggerEnumOperationEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Enum Class")
+    Class<?> enumClass;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Constants")
+    int constants;
+
+    @Label("Description Length")
+    int descriptionLength;
+
+    @Label("Cache")
+    @Description("hit, miss, or empty when the operation is not cached")
+    String cache;
+}
@@ -0,0 +1,36 @@
+package swagger.springdoc;
+
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import org.springdoc.core.customizers.ParameterCustomizer;
+import org.springframework.core.MethodParameter;
+import swagger.core.EnumDefinition;
+import swagger.core.EnumDefinitions;
+import swagger.core.EnumSchemas;
+
+import java.util.Objects;
+
+/**
+ * springdoc-openapi请求参数枚举定制，与SwaggerEnumParameterBuilderPlugin一致：
+ * 描述追加code:message键值，参数schema使用code类型并以全部code为可选值
+ *
+ * @since 2026/10/17
+ */
+public class SwaggerEnumParameterCustomizer implements ParameterCustomizer {
+
+    @Override
+    public Parameter customize(Parameter parameterModel, MethodParameter methodParameter) {
+        if (Objects.isNull(parameterModel) || !methodParameter.getParameterType().isEnum()) {
+            return parameterModel;
+        }
+        Schema<?> current = parameterModel.getSchema();
+        if (Objects.nonNull(current) && Objects.nonNull(current.get$ref())) {
+            return parameterModel;
+        }
+        EnumDefinition definition = EnumDefinitions.getInstance().get(methodParameter.getParameterType());
+        parameterModel.setSchema(EnumSchemas.valueSchema(definition));
+        parameterModel.setDescription(SwaggerEnumPropertyCustomizer.concat(
+                parameterModel.getDescription(), definition.getDescription()));
+        return parameterModel;
+    }
+}
@@ -0,0 +1,48 @@
+package swagger.springdoc;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.swagger.v3.core.converter.AnnotatedType;
+import io.swagger.v3.oas.models.media.Schema;
+import org.springdoc.core.customizers.PropertyCustomizer;
+import swagger.core.EnumDefinition;
+import swagger.core.EnumDefinitions;
+import swagger.core.EnumSchemas;
+
+import java.util.Objects;
+
+/**
+ * springdoc-openapi模型属性枚举定制，与SwaggerEnumConverterPlugin一致：
+ * 描述追加code:message键值，schema使用code类型并以全部code为可选值
+ *
+ * @since 2026/10/17
+ */
+public class SwaggerEnumPropertyCustomizer implements PropertyCustomizer {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Schema customize(Schema property, AnnotatedType type) {
+        if (Objects.isNull(property) || Objects.nonNull(property.get$ref()) || Objects.isNull(type.getType())) {
+            return property;
+        }
+        // springdoc传入的通常是jackson的JavaType，也可能是Class或ParameterizedType
+        Class<?> rawType = TypeFactory.defaultInstance().constructType(type.getType()).getRawClass();
+        if (!rawType.isEnum()) {
+            return property;
+        }
+        EnumDefinition definition = EnumDefinitions.getInstance().get(rawType);
+        Schema<Object> schema = EnumSchemas.valueSchema(definition);
+        schema.setDescription(concat(property.getDescription(), definition.getDescription()));
+        schema.setTitle(property.getTitle());
+        schema.setReadOnly(property.getReadOnly());
+        schema.setWriteOnly(property.getWriteOnly());
+        schema.setNullable(property.getNullable());
+        schema.setDeprecated(property.getDeprecated());
+        schema.setExample(property.getExample());
+        schema.setExtensions(property.getExtensions());
+        return schema;
+    }
+
+    static String concat(String description, String enumDescription) {
+        return Objects.isNull(description) ? enumDescription : description + enumDescription;
+    }
+}
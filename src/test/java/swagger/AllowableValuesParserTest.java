@@ -0,0 +1,45 @@
+package swagger;
+
+import org.junit.jupiter.api.Test;
+import springfox.documentation.service.AllowableListValues;
+import springfox.documentation.service.AllowableRangeValues;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @since 2026/10/17
+ */
+class AllowableValuesParserTest {
+
+    @Test
+    void parseReturnsFreshMutableList() {
+        AllowableListValues first = (AllowableListValues) AllowableValuesParser.parse("1, 0");
+        first.getValues().add("2");
+
+        AllowableListValues second = (AllowableListValues) AllowableValuesParser.parse("1, 0");
+        assertNotSame(first, second);
+        assertEquals(Arrays.asList("1", "0"), second.getValues());
+    }
+
+    @Test
+    void unicodeWhitespaceIsEmptyList() {
+        AllowableListValues values = (AllowableListValues) AllowableValuesParser.parse(" ");
+
+        assertEquals(Collections.emptyList(), values.getValues());
+    }
+
+    @Test
+    void rangeWithInfinity() {
+        AllowableRangeValues range = (AllowableRangeValues) AllowableValuesParser.parse("range(-infinity, 5]");
+
+        assertNull(range.getMin());
+        assertTrue(range.getExclusiveMin());
+        assertEquals("5", range.getMax());
+    }
+}
@@ -0,0 +1,78 @@
+package swagger;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.Test;
+import springfox.documentation.oas.web.OpenApiTransformationContext;
+import swagger.annotation.SwaggerEnum;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @since 2026/10/17
+ */
+class SwaggerEnumComponentSchemaFilterTest {
+    private static final String REF = "#/components/schemas/";
+    private static final String ENUM_COMPONENT = "swagger_SwaggerEnumComponentSchemaFilterTest_Status";
+
+    private final SwaggerEnumComponentSchemaFilter filter = new SwaggerEnumComponentSchemaFilter();
+
+    @Test
+    void enumDoesNotReplaceModelWithSameSimpleName() {
+        Schema<?> model = new ObjectSchema().addProperties("name", new StringSchema());
+        OpenAPI openApi = document(model);
+
+        filter.transform(new OpenApiTransformationContext<HttpServletRequest>(openApi, null));
+
+        assertSame(model, openApi.getComponents().getSchemas().get("Status"));
+        assertTrue(openApi.getComponents().getSchemas().containsKey(ENUM_COMPONENT));
+        Schema<?> property = openApi.getComponents().getSchemas().get("Order").getProperties().get("status");
+        assertEquals(REF + ENUM_COMPONENT, property.get$ref());
+    }
+
+    @Test
+    void eachDocumentGetsItsOwnEnumSchema() {
+        OpenAPI first = document(new ObjectSchema());
+        OpenAPI second = document(new ObjectSchema());
+
+        filter.transform(new OpenApiTransformationContext<HttpServletRequest>(first, null));
+        filter.transform(new OpenApiTransformationContext<HttpServletRequest>(second, null));
+        Schema<?> firstSchema = first.getComponents().getSchemas().get(ENUM_COMPONENT);
+        firstSchema.setDescription("changed by a downstream filter");
+
+        Schema<?> secondSchema = second.getComponents().getSchemas().get(ENUM_COMPONENT);
+        assertNotSame(firstSchema, secondSchema);
+        assertEquals("(1:启用;0:禁用)", secondSchema.getDescription());
+    }
+
+    private static OpenAPI document(Schema<?> statusModel) {
+        Schema<?> status = new StringSchema();
+        status.addExtension(SwaggerEnumComponentSchemaFilter.ENUM_EXTENSION, Status.class.getName());
+        Schema<?> order = new ObjectSchema().addProperties("status", status);
+        return new OpenAPI().components(new Components()
+                .addSchemas("Status", statusModel)
+                .addSchemas("Order", order));
+    }
+
+    @SwaggerEnum(codeName = "code", messageName = "message")
+    enum Status {
+        ON(1, "启用"),
+        OFF(0, "禁用");
+
+        final int code;
+        final String message;
+
+        Status(int code, String message) {
+            this.code = code;
+            this.message = message;
+        }
+    }
+}
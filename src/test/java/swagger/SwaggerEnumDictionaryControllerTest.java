@@ -0,0 +1,66 @@
+package swagger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @since 2026/10/17
+ */
+class SwaggerEnumDictionaryControllerTest {
+    private final SwaggerEnumDictionaryController controller =
+            new SwaggerEnumDictionaryController(new String[]{"swagger.dictionary"});
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ambiguousSimpleNameIsNotFound() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.one("Color", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatus());
+    }
+
+    @Test
+    void ambiguousEnumsAreFoundByClassName() throws Exception {
+        assertEquals("红", get("swagger.dictionary.a.Color").get("1").asText());
+        assertEquals("黑", get("swagger.dictionary.b.Color").get("10").asText());
+    }
+
+    @Test
+    void uniqueSimpleNameIsFound() throws Exception {
+        assertEquals("小", get("Size").get("S").asText());
+    }
+
+    @Test
+    void allUsesClassNamesForAmbiguousEnums() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.all(new MockHttpServletRequest(), response);
+
+        JsonNode all = objectMapper.readTree(response.getContentAsByteArray());
+        List<String> names = new ArrayList<>();
+        all.fieldNames().forEachRemaining(names::add);
+        assertTrue(names.contains("swagger.dictionary.a.Color"));
+        assertTrue(names.contains("swagger.dictionary.b.Color"));
+        assertTrue(names.contains("Size"));
+        assertFalse(names.contains("Color"));
+    }
+
+    private JsonNode get(String name) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.one(name, new MockHttpServletRequest(), response);
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        return objectMapper.readTree(response.getContentAsByteArray());
+    }
+}
@@ -0,0 +1,17 @@
+package swagger.dictionary.a;
+
+import swagger.annotation.SwaggerEnum;
+
+@SwaggerEnum(codeName = "code", messageName = "message")
+public enum Color {
+    RED(1, "红"),
+    GREEN(2, "绿");
+
+    private final int code;
+    private final String message;
+
+    Color(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}
@@ -0,0 +1,16 @@
+package swagger.dictionary.a;
+
+import swagger.annotation.SwaggerEnum;
+
+@SwaggerEnum(codeName = "code", messageName = "message")
+public enum Size {
+    SMALL("S", "小");
+
+    private final String code;
+    private final String message;
+
+    Size(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}
@@ -0,0 +1,16 @@
+package swagger.dictionary.b;
+
+import swagger.annotation.SwaggerEnum;
+
+@SwaggerEnum(codeName = "code", messageName = "message")
+public enum Color {
+    BLACK(10, "黑");
+
+    private final int code;
+    private final String message;
+
+    Color(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+}